@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Runs the k6 load test against the application on platform threads and on virtual threads.
+# Requires Java 21, Maven and k6. Summaries are written to target/loadtest/<mode>.json.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+VUS="${VUS:-1200}"
+DURATION="${DURATION:-60s}"
+PORT="${PORT:-8080}"
+# Same pool size in both modes so only the threading model differs.
+DB_POOL="${DB_POOL:-32}"
+OUT=target/loadtest
+
+mvn -B -q -Pjava21 -DskipTests package
+JAR=$(ls target/taskmgmt-*.jar | grep -v original | head -n 1)
+mkdir -p "$OUT"
+
+run_mode() {
+  local mode="$1" profiles="$2"
+  java -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profiles" \
+    --spring.datasource.hikari.maximum-pool-size="$DB_POOL" \
+    --tasks.outbox.relay.enabled=false >"$OUT/$mode.log" 2>&1 &
+  local pid=$!
+  until curl -sf "http://localhost:$PORT/actuator/health" >/dev/null; do sleep 1; done
+
+  k6 run -q -e BASE_URL="http://localhost:$PORT" -e VUS="$VUS" -e DURATION="$DURATION" \
+    --summary-export "$OUT/$mode.json" loadtest/tasks-load.js || true
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform default
+run_mode virtual virtual
+
+for mode in platform virtual; do
+  echo "== $mode"
+  grep -E '"(http_reqs|http_req_duration|http_req_failed)"' -A 8 "$OUT/$mode.json" \
+    | grep -E '"(rate|count|p\(95\)|p\(99\)|value)"' || true
+done
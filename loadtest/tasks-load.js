@@ -0,0 +1,43 @@
+// k6 load test for the task API: create, read back and list urgent tasks.
+// Usage: k6 run -e BASE_URL=http://localhost:8080 -e VUS=1200 loadtest/tasks-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PRIORITIES = ['LOW', 'MEDIUM', 'HIGH'];
+
+export const options = {
+  scenarios: {
+    burst: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 1200),
+      duration: __ENV.DURATION || '60s',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export default function () {
+  const title = `load-${__VU}-${__ITER}-${Date.now()}`;
+  const priority = PRIORITIES[__ITER % PRIORITIES.length];
+  const created = http.post(
+    `${BASE_URL}/tasks`,
+    JSON.stringify({ title, priority }),
+    Object.assign({ tags: { name: 'create' } }, JSON_HEADERS),
+  );
+  check(created, { 'created': (r) => r.status === 201 });
+
+  if (created.status === 201) {
+    const id = created.json('id');
+    const fetched = http.get(`${BASE_URL}/tasks/${id}`, { tags: { name: 'get' } });
+    check(fetched, { 'fetched': (r) => r.status === 200 });
+  }
+
+  const urgent = http.get(`${BASE_URL}/tasks/urgent?limit=20`, { tags: { name: 'urgent' } });
+  check(urgent, { 'urgent listed': (r) => r.status === 200 });
+}
@@ -0,0 +1,94 @@
+package com.project.taskmgmt.benchmark;
+
+import com.project.taskmgmt.TaskManagementApplication;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Shared setup for benchmarks: a non-web application context on its own in-memory database,
+ * and bulk seeding through plain JDBC.
+ */
+final class BenchmarkSupport {
+  private static final int SEED_BATCH_SIZE = 5_000;
+  private static final Instant SEED_START = Instant.parse("2024-01-01T00:00:00Z");
+
+  private BenchmarkSupport() {}
+
+  static ConfigurableApplicationContext startContext(String databaseName, String... properties) {
+    List<String> merged =
+        new ArrayList<>(
+            List.of(
+                "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "logging.level.root=WARN",
+                "logging.level.com.project.taskmgmt=WARN"));
+    merged.addAll(List.of(properties));
+    return new SpringApplicationBuilder(TaskManagementApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties(merged.toArray(String[]::new))
+        .run();
+  }
+
+  /**
+   * Builds {@code count} detached pending task entities, one second apart, cycling through every
+   * priority in an order that is not already sorted by urgency.
+   */
+  static List<TaskEntity> pendingEntities(int count) {
+    Priority[] priorities = Priority.values();
+    List<TaskEntity> tasks = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Instant createdAt = SEED_START.plusSeconds((i * 7919L) % count);
+      TaskEntity task = new TaskEntity();
+      task.setId((long) i + 1);
+      task.setTitle("bench-" + i);
+      task.setDescription("seeded by benchmark");
+      task.setPriority(priorities[i % priorities.length]);
+      task.setStatus(Status.PENDING);
+      task.setCreatedAt(createdAt);
+      task.setCreatedDate(LocalDate.ofInstant(createdAt, ZoneOffset.UTC));
+      task.setUpdatedAt(createdAt);
+      task.setVersion(0L);
+      tasks.add(task);
+    }
+    return tasks;
+  }
+
+  /**
+   * Inserts {@code count} pending tasks, one second apart, cycling through every priority.
+   */
+  static void seedPendingTasks(JdbcTemplate jdbc, int count) {
+    Priority[] priorities = Priority.values();
+    for (int start = 0; start < count; start += SEED_BATCH_SIZE) {
+      int end = Math.min(count, start + SEED_BATCH_SIZE);
+      List<Object[]> rows = new ArrayList<>(end - start);
+      for (int i = start; i < end; i++) {
+        Instant createdAt = SEED_START.plusSeconds(i);
+        rows.add(
+            new Object[] {
+              "bench-" + i,
+              "seeded by benchmark",
+              priorities[i % priorities.length].name(),
+              "PENDING",
+              OffsetDateTime.ofInstant(createdAt, ZoneOffset.UTC),
+              LocalDate.ofInstant(createdAt, ZoneOffset.UTC),
+              OffsetDateTime.ofInstant(createdAt, ZoneOffset.UTC)
+            });
+      }
+      jdbc.batchUpdate(
+          "insert into tasks (id, title, description, priority, status, created_at, created_date,"
+              + " updated_at, version) values (next value for tasks_seq, ?, ?, ?, ?, ?, ?, ?, 0)",
+          rows);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.project.taskmgmt.benchmark;
+
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.repository.TaskRepository;
+import com.project.taskmgmt.service.TaskService;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Cost per create: constraint-first insert versus the former exists-query-then-insert path,
+ * which is reproduced here by issuing the same duplicate probe before each create.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateTaskBenchmark {
+  private final AtomicLong sequence = new AtomicLong();
+
+  private ConfigurableApplicationContext context;
+  private TaskService taskService;
+  private TaskRepository repository;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkSupport.startContext("bench-create", "tasks.outbox.relay.enabled=false");
+    taskService = context.getBean(TaskService.class);
+    repository = context.getBean(TaskRepository.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TaskResponse constraintFirst() {
+    return taskService.createTask(nextRequest());
+  }
+
+  @Benchmark
+  public TaskResponse probeThenInsert() {
+    CreateTaskRequest request = nextRequest();
+    LocalDate today = LocalDate.now(ZoneId.systemDefault());
+    if (!repository.findTakenTitles(today, List.of(request.getTitle())).isEmpty()) {
+      throw new IllegalStateException("unexpected duplicate " + request.getTitle());
+    }
+    return taskService.createTask(request);
+  }
+
+  private CreateTaskRequest nextRequest() {
+    CreateTaskRequest request = new CreateTaskRequest();
+    request.setTitle("create-" + sequence.incrementAndGet());
+    request.setDescription("benchmark");
+    return request;
+  }
+}
@@ -0,0 +1,92 @@
+package com.project.taskmgmt.benchmark;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.events.TaskChangedEvent;
+import com.project.taskmgmt.service.TaskSearchIndex;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link TaskSearchIndex#search} over one million tasks whose words follow a Zipf distribution,
+ * so the common terms have postings of several hundred thousand tasks. Covers a first page for a
+ * common term, for a mix of common and rare terms, and for a rare term.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class SearchBenchmark {
+  private static final int VOCABULARY = 50_000;
+
+  @Param({"1000000"})
+  private int size;
+
+  @Param({"task", "task review w17 w4000", "w20000"})
+  private String query;
+
+  private TaskSearchIndex index;
+
+  @Setup
+  public void setUp() {
+    index = new TaskSearchIndex(null, null);
+    Random random = new Random(42);
+    double[] cumulative = zipf(VOCABULARY);
+    Instant now = Instant.parse("2024-01-01T00:00:00Z");
+    for (long id = 1; id <= size; id++) {
+      String title = "task " + words(random, cumulative, 4);
+      String description = words(random, cumulative, 12);
+      TaskResponse task =
+          new TaskResponse(
+              id, title, description, Priority.MEDIUM, Status.PENDING, now, null, now, 0L);
+      index.onTaskChanged(new TaskChangedEvent("CREATED", null, task));
+    }
+  }
+
+  @Benchmark
+  public TaskSearchIndex.Result firstPage() {
+    return index.search(query, 0, 20);
+  }
+
+  /**
+   * Words "review", then "w1", "w2" and so on, ranked by a Zipf distribution with exponent 1.
+   */
+  private static String words(Random random, double[] cumulative, int maxCount) {
+    StringBuilder text = new StringBuilder();
+    for (int i = random.nextInt(maxCount) + 1; i > 0; i--) {
+      int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+      rank = rank < 0 ? -rank - 1 : rank;
+      text.append(rank == 0 ? "review" : "w" + rank).append(' ');
+    }
+    return text.toString();
+  }
+
+  private static double[] zipf(int terms) {
+    double[] cumulative = new double[terms];
+    double sum = 0;
+    for (int rank = 0; rank < terms; rank++) {
+      sum += 1.0 / (rank + 1);
+      cumulative[rank] = sum;
+    }
+    for (int rank = 0; rank < terms; rank++) {
+      cumulative[rank] /= sum;
+    }
+    return cumulative;
+  }
+}
@@ -0,0 +1,108 @@
+package com.project.taskmgmt.benchmark;
+
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskPage;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.service.TaskService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Write and read throughput of the in-memory default against the file-backed
+ * {@code persistent} profile, through {@link TaskService} on a seeded table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class StorageBenchmark {
+
+  @Param({"memory", "persistent"})
+  private String storage;
+
+  @Param({"100000"})
+  private int seededTasks;
+
+  private final AtomicLong sequence = new AtomicLong();
+  private ConfigurableApplicationContext context;
+  private TaskService taskService;
+  private Path dataDir;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    if (storage.equals("persistent")) {
+      dataDir = Files.createTempDirectory("tasks-bench");
+      context =
+          BenchmarkSupport.startContext(
+              "bench-storage",
+              "spring.profiles.active=persistent",
+              "TASKS_DATA_DIR=" + dataDir,
+              "tasks.outbox.relay.enabled=false");
+    } else {
+      context = BenchmarkSupport.startContext("bench-storage", "tasks.outbox.relay.enabled=false");
+    }
+    BenchmarkSupport.seedPendingTasks(context.getBean(JdbcTemplate.class), seededTasks);
+    taskService = context.getBean(TaskService.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    context.close();
+    if (dataDir != null) {
+      try (Stream<Path> files = Files.walk(dataDir)) {
+        files.sorted(Comparator.reverseOrder()).forEach(StorageBenchmark::delete);
+      }
+    }
+  }
+
+  @Benchmark
+  public TaskResponse write() {
+    CreateTaskRequest request = new CreateTaskRequest();
+    request.setTitle("storage-" + sequence.incrementAndGet());
+    request.setDescription("benchmark");
+    return taskService.createTask(request);
+  }
+
+  /**
+   * Reads a 50-task page at a random position, bypassing the single-task cache.
+   */
+  @Benchmark
+  public TaskPage read() {
+    long afterId = ThreadLocalRandom.current().nextLong(seededTasks - 50);
+    return taskService.getTasks(afterId, 50, false);
+  }
+
+  private static void delete(Path path) {
+    try {
+      Files.delete(path);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+}
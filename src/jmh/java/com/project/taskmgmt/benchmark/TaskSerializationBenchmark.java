@@ -0,0 +1,70 @@
+package com.project.taskmgmt.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.mapper.TaskMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Response-side hot paths: {@link TaskMapper#toResponse} and Jackson serialization of a task
+ * list, with the same date settings the application uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+  @Param({"100", "1000"})
+  private int size;
+
+  private final TaskMapper mapper = new TaskMapper();
+  private final ObjectMapper objectMapper =
+      Jackson2ObjectMapperBuilder.json()
+          .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .build();
+  private TaskEntity entity;
+  private List<TaskEntity> entities;
+  private List<TaskResponse> responses;
+
+  @Setup
+  public void setUp() {
+    entities = BenchmarkSupport.pendingEntities(size);
+    entity = entities.get(0);
+    responses = entities.stream().map(mapper::toResponse).toList();
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public TaskResponse mapOne() {
+    return mapper.toResponse(entity);
+  }
+
+  @Benchmark
+  public List<TaskResponse> mapList() {
+    return entities.stream().map(mapper::toResponse).toList();
+  }
+
+  @Benchmark
+  public byte[] serializeList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(responses);
+  }
+}
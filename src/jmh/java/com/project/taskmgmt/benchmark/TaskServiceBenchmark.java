@@ -0,0 +1,73 @@
+package com.project.taskmgmt.benchmark;
+
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.service.TaskService;
+import com.project.taskmgmt.service.TaskUrgencyIndex;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * End-to-end {@link TaskService} calls against an in-memory H2 database seeded with pending
+ * tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+  @Param({"10000"})
+  private int pendingTasks;
+
+  @Param({"50"})
+  private int limit;
+
+  private final AtomicLong sequence = new AtomicLong();
+  private ConfigurableApplicationContext context;
+  private TaskService taskService;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkSupport.startContext("bench-service", "tasks.outbox.relay.enabled=false");
+    BenchmarkSupport.seedPendingTasks(context.getBean(JdbcTemplate.class), pendingTasks);
+    context.getBean(TaskUrgencyIndex.class).rebuild();
+    taskService = context.getBean(TaskService.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TaskResponse createTask() {
+    CreateTaskRequest request = new CreateTaskRequest();
+    request.setTitle("service-" + sequence.incrementAndGet());
+    request.setDescription("benchmark");
+    return taskService.createTask(request);
+  }
+
+  @Benchmark
+  public List<TaskResponse> getUrgentTasks() {
+    return taskService.getUrgentTasks(limit);
+  }
+}
@@ -0,0 +1,69 @@
+package com.project.taskmgmt.benchmark;
+
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.service.TaskUrgencyComparator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link TaskUrgencyComparator} on its own: a single compare, the same comparison with an
+ * ordinal rank instead of the {@code Map<Priority, Integer>} lookup, and a full sort.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrgencyComparatorBenchmark {
+
+  @Param({"1000", "100000"})
+  private int size;
+
+  private final TaskUrgencyComparator comparator = new TaskUrgencyComparator();
+  private List<TaskEntity> tasks;
+  private TaskEntity left;
+  private TaskEntity right;
+
+  @Setup
+  public void setUp() {
+    tasks = BenchmarkSupport.pendingEntities(size);
+    left = tasks.get(0);
+    right = tasks.get(1);
+  }
+
+  @Benchmark
+  public int compare() {
+    return comparator.compare(left, right);
+  }
+
+  /**
+   * Baseline without the map lookup: HIGH, MEDIUM, LOW are declared in reverse urgency order.
+   */
+  @Benchmark
+  public int compareByOrdinal() {
+    int byPriority =
+        Integer.compare(right.getPriority().ordinal(), left.getPriority().ordinal());
+    return byPriority != 0 ? byPriority : left.getCreatedAt().compareTo(right.getCreatedAt());
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public List<TaskEntity> sort() {
+    List<TaskEntity> copy = new ArrayList<>(tasks);
+    copy.sort(comparator);
+    return copy;
+  }
+}
@@ -0,0 +1,78 @@
+package com.project.taskmgmt.benchmark;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.mapper.TaskMapper;
+import com.project.taskmgmt.repository.TaskRepository;
+import com.project.taskmgmt.service.TaskService;
+import com.project.taskmgmt.service.TaskUrgencyComparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Top-N urgent tasks: full PENDING fetch plus {@link TaskUrgencyComparator} sort versus the
+ * database-side query over the (status, priority, created_at) index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class UrgentTasksBenchmark {
+
+  @Param({"10000", "100000", "1000000"})
+  private int pendingTasks;
+
+  @Param({"50"})
+  private int limit;
+
+  private ConfigurableApplicationContext context;
+  private TaskService taskService;
+  private TaskRepository repository;
+  private TaskUrgencyComparator comparator;
+  private TaskMapper mapper;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkSupport.startContext("bench-urgent", "tasks.urgent.use-index=false");
+    BenchmarkSupport.seedPendingTasks(context.getBean(JdbcTemplate.class), pendingTasks);
+    taskService = context.getBean(TaskService.class);
+    repository = context.getBean(TaskRepository.class);
+    comparator = context.getBean(TaskUrgencyComparator.class);
+    mapper = context.getBean(TaskMapper.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<TaskResponse> comparatorSort() {
+    List<TaskEntity> tasks = repository.findByStatus(Status.PENDING);
+    tasks.sort(comparator);
+    return tasks.stream().limit(limit).map(mapper::toResponse).toList();
+  }
+
+  @Benchmark
+  public List<TaskResponse> databaseTopN() {
+    return taskService.getUrgentTasks(limit);
+  }
+}
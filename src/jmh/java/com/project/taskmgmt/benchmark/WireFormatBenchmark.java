@@ -0,0 +1,104 @@
+package com.project.taskmgmt.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.project.taskmgmt.config.WireFormatConfiguration;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.events.TaskEvent;
+import com.project.taskmgmt.mapper.TaskMapper;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * JSON as the application writes it against the CBOR and Smile wire formats: encode and decode
+ * time for a task list and a single Kafka event. Encoded sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+  @Param({"json", "cbor", "smile"})
+  private String format;
+
+  @Param({"100", "1000"})
+  private int size;
+
+  private ObjectMapper objectMapper;
+  private ObjectReader listReader;
+  private List<TaskResponse> responses;
+  private TaskEvent event;
+  private byte[] encodedList;
+  private byte[] encodedEvent;
+
+  @Setup
+  public void setUp() throws IOException {
+    objectMapper =
+        switch (format) {
+          case "json" ->
+              Jackson2ObjectMapperBuilder.json()
+                  .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                  .build();
+          case "cbor" ->
+              WireFormatConfiguration.binaryMapper(
+                  Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+          case "smile" ->
+              WireFormatConfiguration.binaryMapper(
+                  Jackson2ObjectMapperBuilder.json(), new SmileFactory());
+          default -> throw new IllegalArgumentException(format);
+        };
+    listReader =
+        objectMapper.readerFor(
+            objectMapper.getTypeFactory().constructCollectionType(List.class, TaskResponse.class));
+    TaskMapper mapper = new TaskMapper();
+    responses = BenchmarkSupport.pendingEntities(size).stream().map(mapper::toResponse).toList();
+    event = new TaskEvent(42L, "UPDATED", Instant.parse("2024-05-01T10:00:00.123456Z"));
+    encodedList = objectMapper.writeValueAsBytes(responses);
+    encodedEvent = objectMapper.writeValueAsBytes(event);
+    System.out.printf(
+        "%n%s: list of %d = %d bytes (%d per task), event = %d bytes%n",
+        format, size, encodedList.length, encodedList.length / size, encodedEvent.length);
+  }
+
+  @Benchmark
+  public byte[] serializeList() throws IOException {
+    return objectMapper.writeValueAsBytes(responses);
+  }
+
+  @Benchmark
+  public List<TaskResponse> deserializeList() throws IOException {
+    return listReader.readValue(encodedList);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public byte[] serializeEvent() throws IOException {
+    return objectMapper.writeValueAsBytes(event);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public TaskEvent deserializeEvent() throws IOException {
+    return objectMapper.readValue(encodedEvent, TaskEvent.class);
+  }
+}
@@ -0,0 +1,32 @@
+package com.project.taskmgmt.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.project.taskmgmt.entity.TaskEntity;
+import java.util.Locale;
+import java.util.Set;
+import org.slf4j.Marker;
+
+/**
+ * Drops Hibernate's log lines for rejected duplicate titles. Those come from the title-per-day
+ * constraint doing its job; TaskService turns them into conflicts and logs one line itself. Only
+ * lines naming that constraint are dropped; every other SQL error keeps its full Hibernate
+ * logging. Registered in {@code logback-spring.xml}.
+ */
+public class DuplicateTitleLogFilter extends TurboFilter {
+  private static final Set<String> LOGGERS =
+      Set.of("org.hibernate.engine.jdbc.spi.SqlExceptionHelper", "org.hibernate.orm.jdbc.batch");
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    if (format == null || !LOGGERS.contains(logger.getName())) {
+      return FilterReply.NEUTRAL;
+    }
+    return format.toLowerCase(Locale.ROOT).contains(TaskEntity.TITLE_PER_DAY_CONSTRAINT)
+        ? FilterReply.DENY
+        : FilterReply.NEUTRAL;
+  }
+}
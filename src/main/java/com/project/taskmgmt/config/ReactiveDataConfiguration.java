@@ -0,0 +1,56 @@
+package com.project.taskmgmt.config;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+
+/**
+ * R2DBC access for the reactive profile.
+ * The connection factory and its transaction manager are deliberately not beans: either would
+ * make Spring Boot back off the JDBC DataSource and JPA transaction manager the rest of the
+ * application still uses.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveDataConfiguration implements DisposableBean {
+  private final ConnectionFactory connectionFactory;
+
+  public ReactiveDataConfiguration(
+      @Value("${tasks.reactive.r2dbc-url}") String url,
+      @Value("${spring.datasource.username:sa}") String username,
+      @Value("${spring.datasource.password:}") String password) {
+    ConnectionFactoryOptions options =
+        ConnectionFactoryOptions.parse(url)
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build();
+    this.connectionFactory = ConnectionFactories.get(options);
+  }
+
+  @Bean
+  public DatabaseClient databaseClient() {
+    return DatabaseClient.create(connectionFactory);
+  }
+
+  @Bean
+  public TransactionalOperator reactiveTransactionalOperator() {
+    return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+  }
+
+  @Override
+  public void destroy() {
+    if (connectionFactory instanceof Disposable disposable) {
+      disposable.dispose();
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.project.taskmgmt.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.project.taskmgmt.events.TaskEvent;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Binary alternatives to JSON for service-to-service traffic.
+ * Requests and responses are negotiated by content type: {@code application/cbor} and
+ * {@code application/x-jackson-smile} next to {@code application/json}, in both the servlet and
+ * the reactive stack. The DTOs are the same; the binary formats only differ in writing instants
+ * as epoch seconds (with nanoseconds) instead of ISO strings. Kafka task events are JSON unless
+ * {@code tasks.kafka.value-format} is {@code cbor}.
+ */
+@Configuration
+public class WireFormatConfiguration {
+  private static final MimeType SMILE = new MimeType("application", "x-jackson-smile");
+
+  /**
+   * An object mapper with the application's Jackson settings writing the given binary format.
+   * The builder is modified, so each mapper needs a fresh one; Boot's builder bean is a prototype.
+   */
+  public static ObjectMapper binaryMapper(
+      Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+    return builder
+        .factory(factory)
+        .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+  }
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(binaryMapper(builder, new CBORFactory()));
+  }
+
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(binaryMapper(builder, new SmileFactory()));
+  }
+
+  /**
+   * The binary codecs are built with their media types spelled out; the mapper-only constructors
+   * fall back to the JSON media types. CBOR has no default slot and custom codecs are consulted
+   * before the defaults, so a JSON codec is registered ahead of it to keep JSON the answer to
+   * {@code Accept: *}{@code /*} and the body format when no content type is set.
+   */
+  @Bean
+  public CodecCustomizer binaryCodecCustomizer(
+      ObjectMapper objectMapper,
+      Jackson2ObjectMapperBuilder cborBuilder,
+      Jackson2ObjectMapperBuilder smileBuilder) {
+    ObjectMapper cbor = binaryMapper(cborBuilder, new CBORFactory());
+    ObjectMapper smile = binaryMapper(smileBuilder, new SmileFactory());
+    return configurer -> {
+      configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smile, SMILE));
+      configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smile, SMILE));
+      configurer.customCodecs().register(new Jackson2JsonEncoder(objectMapper));
+      configurer.customCodecs().register(new Jackson2JsonDecoder(objectMapper));
+      configurer
+          .customCodecs()
+          .register(new CborEncoder(cbor));
+      configurer
+          .customCodecs()
+          .register(new Jackson2CborDecoder(cbor, MediaType.APPLICATION_CBOR));
+    };
+  }
+
+  /**
+   * Replaces the configured JSON value serializer of the Kafka producer with the same serializer
+   * writing CBOR. Consumers read it with a {@code JsonDeserializer} built on a CBOR mapper.
+   */
+  @Bean
+  @SuppressWarnings("unchecked")
+  public DefaultKafkaProducerFactoryCustomizer taskEventSerializerCustomizer(
+      Jackson2ObjectMapperBuilder builder,
+      @Value("${tasks.kafka.value-format:json}") String valueFormat) {
+    if (!"cbor".equals(valueFormat)) {
+      return producerFactory -> {};
+    }
+    ObjectMapper cbor = binaryMapper(builder, new CBORFactory());
+    return producerFactory ->
+        ((DefaultKafkaProducerFactory<String, TaskEvent>) producerFactory)
+            .setValueSerializer(new JsonSerializer<TaskEvent>(cbor).noTypeInfo());
+  }
+
+  /**
+   * The stock CBOR encoder only writes single values, which WebFlux hands it as a publisher too.
+   * Single values are encoded as such and multi-value publishers as one CBOR array.
+   */
+  private static final class CborEncoder extends Jackson2CborEncoder {
+    CborEncoder(ObjectMapper mapper) {
+      super(mapper, MediaType.APPLICATION_CBOR);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(
+        Publisher<?> inputStream,
+        DataBufferFactory bufferFactory,
+        ResolvableType elementType,
+        MimeType mimeType,
+        Map<String, Object> hints) {
+      if (inputStream instanceof Mono<?> mono) {
+        return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints))
+            .flux();
+      }
+      ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+      return Flux.from(inputStream)
+          .collectList()
+          .map(values -> encodeValue(values, bufferFactory, listType, mimeType, hints))
+          .flux();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.project.taskmgmt.controller;
+
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskPage;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.service.ReactiveTaskService;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux variant of {@link TaskController}, active with the reactive profile.
+ * List-style endpoints return a {@link Flux}; requested as {@code application/x-ndjson} they
+ * are written element by element, with client demand propagated back to the database query.
+ */
+@RestController
+@RequestMapping("/tasks")
+@Validated
+@Profile("reactive")
+public class ReactiveTaskController {
+  private final ReactiveTaskService taskService;
+
+  public ReactiveTaskController(ReactiveTaskService taskService) {
+    this.taskService = taskService;
+  }
+
+  @PostMapping
+  public Mono<ResponseEntity<TaskResponse>> createTask(
+      @Valid @RequestBody CreateTaskRequest request) {
+    return taskService
+        .createTask(request)
+        .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+  }
+
+  @GetMapping
+  public Mono<TaskPage> getTasks(
+      @RequestParam(required = false) Long afterId,
+      @RequestParam(required = false) Integer limit) {
+    return taskService.getTasks(afterId, limit);
+  }
+
+  @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<TaskResponse> streamTasks() {
+    return taskService.streamAllTasks();
+  }
+
+  @GetMapping(
+      value = "/urgent",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public Flux<TaskResponse> getUrgentTasks(@RequestParam(required = false) Integer limit) {
+    return taskService.getUrgentTasks(limit);
+  }
+
+  @GetMapping("/{id}")
+  public Mono<TaskResponse> getTask(@PathVariable Long id) {
+    return taskService.getTask(id);
+  }
+
+  @PutMapping("/{id}")
+  public Mono<TaskResponse> updateTask(
+      @PathVariable Long id, @Valid @RequestBody UpdateTaskRequest request) {
+    return taskService.updateTask(id, request);
+  }
+
+  @DeleteMapping("/{id}")
+  public Mono<ResponseEntity<Void>> deleteTask(@PathVariable Long id) {
+    return taskService.deleteTask(id).then(Mono.just(ResponseEntity.noContent().build()));
+  }
+}
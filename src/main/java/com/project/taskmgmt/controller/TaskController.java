@@ -1,53 +1,396 @@
 package com.project.taskmgmt.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.project.taskmgmt.dto.BatchItemResult;
+import com.project.taskmgmt.dto.BatchUpdateTaskRequest;
 import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskChange;
+import com.project.taskmgmt.dto.TaskDelta;
+import com.project.taskmgmt.dto.TaskExportSnapshot;
+import com.project.taskmgmt.dto.TaskImportResult;
+import com.project.taskmgmt.dto.TaskPage;
+import com.project.taskmgmt.dto.TaskQuery;
+import com.project.taskmgmt.dto.TaskQueryPage;
 import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.TaskSearchPage;
+import com.project.taskmgmt.dto.TaskStats;
 import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.events.TaskChangeFeed;
+import com.project.taskmgmt.exception.SnapshotNotFoundException;
+import com.project.taskmgmt.service.TaskCollectionVersion;
+import com.project.taskmgmt.service.TaskCreateWriter;
+import com.project.taskmgmt.service.TaskExporter;
+import com.project.taskmgmt.service.TaskImporter;
 import com.project.taskmgmt.service.TaskService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 @RestController
 @RequestMapping("/tasks")
 @Validated
+@Profile("!reactive & !edge & !sharded")
 public class TaskController {
+  private static final MediaType APPLICATION_NDJSON =
+      MediaType.parseMediaType("application/x-ndjson");
+  private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+  private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
   private final TaskService taskService;
+  private final TaskCreateWriter createWriter;
+  private final TaskChangeFeed changeFeed;
+  private final TaskCollectionVersion collectionVersion;
+  private final TaskExporter exporter;
+  private final TaskImporter importer;
+  private final ObjectWriter taskWriter;
+  private final long changesTimeoutMs;
 
-  public TaskController(TaskService taskService) {
+  public TaskController(
+      TaskService taskService,
+      TaskCreateWriter createWriter,
+      TaskChangeFeed changeFeed,
+      TaskCollectionVersion collectionVersion,
+      TaskExporter exporter,
+      TaskImporter importer,
+      ObjectMapper objectMapper,
+      @Value("${tasks.changes.timeout-ms:1800000}") long changesTimeoutMs) {
     this.taskService = taskService;
+    this.createWriter = createWriter;
+    this.changeFeed = changeFeed;
+    this.collectionVersion = collectionVersion;
+    this.exporter = exporter;
+    this.importer = importer;
+    this.taskWriter = objectMapper.writerFor(TaskResponse.class);
+    this.changesTimeoutMs = changesTimeoutMs;
   }
 
   @PostMapping
   public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody CreateTaskRequest request) {
-    TaskResponse response = taskService.createTask(request);
+    TaskResponse response = createWriter.create(request);
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
 
+  /**
+   * Creates up to the configured maximum of tasks in one request; results are reported per item.
+   */
+  @PostMapping("/batch")
+  public List<BatchItemResult> createTasks(@RequestBody List<CreateTaskRequest> requests) {
+    return taskService.createTasks(requests);
+  }
+
+  @PatchMapping("/batch")
+  public List<BatchItemResult> updateTasks(@RequestBody List<BatchUpdateTaskRequest> requests) {
+    return taskService.updateTasks(requests);
+  }
+
+  @DeleteMapping("/batch")
+  public List<BatchItemResult> deleteTasks(@RequestBody List<Long> ids) {
+    return taskService.deleteTasks(ids);
+  }
+
+  /**
+   * Bulk-imports a CSV or NDJSON request body; see {@link TaskImporter}. Passing the
+   * {@code jobId} of an interrupted import resumes it after its last checkpoint.
+   */
+  @PostMapping("/import")
+  public TaskImportResult importTasks(
+      @RequestParam String format, @RequestParam(required = false) String jobId, InputStream body)
+      throws IOException {
+    return importer.importUpload(jobId, TaskImporter.Format.parse(format), body);
+  }
+
+  /**
+   * List endpoints answer {@code If-None-Match} from the collection version before any query runs;
+   * returning null after {@code checkNotModified} sends the 304. Filters, sorting, projection and
+   * offset paging are served by {@link #queryTasks}; passing them here is rejected rather than
+   * silently ignored.
+   */
   @GetMapping
-  public List<TaskResponse> getAllTasks() {
-    return taskService.getAllTasks();
+  public TaskPage getTasks(
+      @RequestParam(required = false) Long afterId,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(defaultValue = "false") boolean includeArchived,
+      TaskQuery query,
+      WebRequest webRequest) {
+    if (query.isPresent()) {
+      throw new ValidationException(
+          "filters, sort, fields and offset are served by GET /tasks/query");
+    }
+    String etag = collectionVersion.etag("page", afterId, limit, includeArchived);
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+    return taskService.getTasks(afterId, limit, includeArchived);
+  }
+
+  /**
+   * Filtered, sorted and offset-paged tasks; each item holds only the requested fields.
+   */
+  @GetMapping("/query")
+  public TaskQueryPage queryTasks(
+      @RequestParam(required = false) Long afterId,
+      @RequestParam(required = false) Integer limit,
+      TaskQuery query,
+      WebRequest webRequest) {
+    String etag = collectionVersion.etag("query", query.toString(), afterId, limit);
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+    return taskService.queryTasks(query, afterId, limit);
+  }
+
+  /**
+   * Incremental sync: tasks modified and deleted since the client's cursor.
+   */
+  @GetMapping(params = "changedSince")
+  public TaskDelta getChanges(
+      @RequestParam Instant changedSince,
+      @RequestParam(required = false) Long afterId,
+      @RequestParam(required = false) Integer limit,
+      WebRequest webRequest) {
+    // Changes become visible once they are older than the commit lag, even without a new write,
+    // so the ETag also covers where the page ends and cannot be answered before loading it.
+    long version = collectionVersion.current();
+    TaskDelta delta = taskService.getChangesSince(changedSince, afterId, limit);
+    String etag =
+        collectionVersion.etagAt(
+            version,
+            "changes",
+            changedSince,
+            afterId,
+            limit,
+            delta.nextChangedSince(),
+            delta.nextAfterId(),
+            delta.hasMore());
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+    return delta;
+  }
+
+  /**
+   * Streams every task as newline-delimited JSON, one object per line, without buffering the
+   * full result set.
+   */
+  @GetMapping("/stream")
+  public ResponseEntity<StreamingResponseBody> streamTasks() {
+    StreamingResponseBody body =
+        outputStream -> {
+          OutputStream out = new BufferedOutputStream(outputStream, STREAM_BUFFER_SIZE);
+          taskService.streamAllTasks(false, task -> writeLine(out, task));
+          out.flush();
+        };
+    return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+  }
+
+  /**
+   * Streams every task as CSV or NDJSON for bulk exports, gzip-compressed when the client accepts
+   * it. Rows flow from the database cursor through a fixed-size buffer. Archived tasks are
+   * included unless {@code includeArchived=false}.
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportTasks(
+      @RequestParam(defaultValue = "ndjson") String format,
+      @RequestParam(defaultValue = "true") boolean includeArchived,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    TaskExporter.Format exportFormat = TaskExporter.Format.parse(format);
+    boolean gzip = acceptsGzip(acceptEncoding);
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.mediaType()))
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"tasks." + exportFormat.extension() + "\"");
+    if (gzip) {
+      // An explicit Content-Encoding also keeps the container from compressing a second time.
+      response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    return response.body(out -> exporter.export(exportFormat, out, gzip, includeArchived));
+  }
+
+  /**
+   * Writes a gzip-compressed export to the server's export directory for later download.
+   */
+  @PostMapping("/export/snapshots")
+  public ResponseEntity<TaskExportSnapshot> createExportSnapshot(
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestParam(defaultValue = "true") boolean includeArchived)
+      throws IOException {
+    TaskExporter.Snapshot snapshot =
+        exporter.writeSnapshot(TaskExporter.Format.parse(format), includeArchived);
+    return ResponseEntity.created(URI.create("/tasks/export/snapshots/" + snapshot.name()))
+        .body(new TaskExportSnapshot(snapshot.name(), snapshot.bytes()));
+  }
+
+  /**
+   * Serves a snapshot file without copying it through the heap: with the container's sendfile
+   * support the kernel sends it directly, otherwise it is transferred from a file channel.
+   */
+  @GetMapping("/export/snapshots/{name}")
+  public void downloadExportSnapshot(
+      @PathVariable String name, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    TaskExporter.Snapshot snapshot =
+        exporter.findSnapshot(name).orElseThrow(() -> new SnapshotNotFoundException(name));
+    response.setContentType("application/gzip");
+    response.setHeader(
+        HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + snapshot.name() + "\"");
+    response.setContentLengthLong(snapshot.bytes());
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      request.setAttribute(SENDFILE_FILENAME, snapshot.path().toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START, 0L);
+      request.setAttribute(SENDFILE_END, snapshot.bytes());
+      return;
+    }
+    try (FileChannel file = FileChannel.open(snapshot.path(), StandardOpenOption.READ)) {
+      WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+      long position = 0;
+      while (position < snapshot.bytes()) {
+        position += file.transferTo(position, snapshot.bytes() - position, out);
+      }
+    }
+  }
+
+  /**
+   * Pushes committed task changes as Server-Sent Events. A client resumes after the last event
+   * it received through the {@code Last-Event-ID} header (sent automatically by EventSource) or
+   * the {@code lastEventId} parameter.
+   */
+  @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamChanges(
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+      @RequestParam(required = false) String lastEventId) {
+    SseEmitter emitter = new SseEmitter(changesTimeoutMs);
+    TaskChangeFeed.Subscription subscription =
+        changeFeed.subscribe(
+            lastEventIdHeader != null ? lastEventIdHeader : lastEventId,
+            new TaskChangeFeed.Sink() {
+              @Override
+              public void send(TaskChange change) throws IOException {
+                emitter.send(
+                    SseEmitter.event()
+                        .id(changeFeed.eventId(change))
+                        .name(change.type())
+                        .data(change, MediaType.APPLICATION_JSON));
+              }
+
+              @Override
+              public void heartbeat() throws IOException {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+              }
+
+              @Override
+              public void close() {
+                emitter.complete();
+              }
+            });
+    emitter.onCompletion(subscription::cancel);
+    emitter.onTimeout(subscription::cancel);
+    emitter.onError(ex -> subscription.cancel());
+    return emitter;
   }
 
   @GetMapping("/urgent")
-  public List<TaskResponse> getUrgentTasks() {
-    return taskService.getUrgentTasks();
+  public List<TaskResponse> getUrgentTasks(
+      @RequestParam(required = false) Integer limit, WebRequest webRequest) {
+    if (webRequest.checkNotModified(collectionVersion.etag("urgent", limit))) {
+      return null;
+    }
+    return taskService.getUrgentTasks(limit);
   }
 
+  @GetMapping("/stats")
+  public TaskStats getStats(WebRequest webRequest) {
+    // The date is part of the tag because the completions-per-day window moves daily.
+    String etag = collectionVersion.etag("stats", LocalDate.now(ZoneOffset.UTC));
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+    return taskService.getStats();
+  }
+
+  @GetMapping("/search")
+  public TaskSearchPage searchTasks(
+      @RequestParam String q,
+      @RequestParam(required = false) Integer offset,
+      @RequestParam(required = false) Integer limit,
+      WebRequest webRequest) {
+    if (webRequest.checkNotModified(collectionVersion.etag("search", q, offset, limit))) {
+      return null;
+    }
+    return taskService.searchTasks(q, offset, limit);
+  }
+
+  /**
+   * Returns a task with its version as ETag; a matching {@code If-None-Match} gets a 304.
+   */
+  @GetMapping("/{id}")
+  public ResponseEntity<TaskResponse> getTask(
+      @PathVariable Long id,
+      @RequestParam(defaultValue = "false") boolean includeArchived,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+    TaskResponse task =
+        includeArchived ? taskService.getTaskIncludingArchived(id) : taskService.getTask(id);
+    return taskEntity(task, accept);
+  }
+
+  /**
+   * Updates a task; with {@code If-Match} the update only applies to the listed versions and
+   * fails with 412 otherwise.
+   */
   @PutMapping("/{id}")
-  public TaskResponse updateTask(@PathVariable Long id, @Valid @RequestBody UpdateTaskRequest request) {
-    return taskService.updateTask(id, request);
+  public ResponseEntity<TaskResponse> updateTask(
+      @PathVariable Long id,
+      @Valid @RequestBody UpdateTaskRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+    TaskResponse task = taskService.updateTask(id, request, matchingVersions(ifMatch));
+    return taskEntity(task, accept);
   }
 
   @DeleteMapping("/{id}")
@@ -55,4 +398,128 @@ public class TaskController {
     taskService.deleteTask(id);
     return ResponseEntity.noContent().build();
   }
+
+  /**
+   * A task response tagged with its version. JSON, CBOR and Smile bodies of one version differ,
+   * so the tag names the representation too and caches are told to key on {@code Accept}.
+   */
+  static ResponseEntity<TaskResponse> taskEntity(TaskResponse task, String accept) {
+    return ResponseEntity.ok()
+        .eTag(taskEtag(task, accept))
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(task);
+  }
+
+  static String taskEtag(TaskResponse task, String accept) {
+    return "\"" + task.version() + representation(accept) + "\"";
+  }
+
+  /**
+   * Tag suffix of the representation an {@code Accept} header negotiates: none for JSON, which
+   * also wins wildcards, and {@code -cbor} or {@code -smile} when a binary type is preferred.
+   */
+  static String representation(String accept) {
+    if (accept == null) {
+      return "";
+    }
+    List<MediaType> types;
+    try {
+      types = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException ex) {
+      return "";
+    }
+    String best = "";
+    double bestQuality = -1;
+    for (MediaType type : types) {
+      String suffix;
+      if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+        suffix = "";
+      } else if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+        suffix = "-cbor";
+      } else if (type.isCompatibleWith(SMILE)) {
+        suffix = "-smile";
+      } else {
+        continue;
+      }
+      if (type.getQualityValue() > bestQuality) {
+        best = suffix;
+        bestQuality = type.getQualityValue();
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Versions listed in an If-Match header, or null when it is absent or "*". Representation
+   * suffixes are ignored since every representation of a version is the same task state.
+   * Weak and non-numeric tags never match.
+   */
+  static List<Long> matchingVersions(String ifMatch) {
+    if (ifMatch == null) {
+      return null;
+    }
+    List<Long> versions = new ArrayList<>();
+    int i = 0;
+    while (i < ifMatch.length()) {
+      char c = ifMatch.charAt(i);
+      if (c == ',' || Character.isWhitespace(c)) {
+        i++;
+        continue;
+      }
+      if (c == '*') {
+        return null;
+      }
+      boolean weak = ifMatch.startsWith("W/", i);
+      int open = ifMatch.indexOf('"', i);
+      int close = open < 0 ? -1 : ifMatch.indexOf('"', open + 1);
+      if (close < 0) {
+        break;
+      }
+      if (!weak) {
+        String tag = ifMatch.substring(open + 1, close);
+        int suffix = tag.indexOf('-');
+        try {
+          versions.add(Long.parseLong(suffix < 0 ? tag : tag.substring(0, suffix)));
+        } catch (NumberFormatException ignored) {
+          // Not one of our tags; leave it out so it cannot match.
+        }
+      }
+      i = close + 1;
+    }
+    return versions;
+  }
+
+  /**
+   * True when {@code Accept-Encoding} lists gzip (or *) without q=0.
+   */
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      String name = parts[0].trim();
+      if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+        continue;
+      }
+      boolean refused = false;
+      for (int i = 1; i < parts.length; i++) {
+        String parameter = parts[i].trim().replace(" ", "");
+        refused |= parameter.matches("q=0(\\.0*)?");
+      }
+      if (!refused) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void writeLine(OutputStream out, TaskResponse task) {
+    try {
+      out.write(taskWriter.writeValueAsBytes(task));
+      out.write('\n');
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
 }
@@ -0,0 +1,82 @@
+package com.project.taskmgmt.controller;
+
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskPage;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.service.TaskStoreService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Core task endpoints served from a {@link com.project.taskmgmt.repository.TaskStore}, active
+ * with the edge and sharded profiles.
+ */
+@RestController
+@RequestMapping("/tasks")
+@Validated
+@Profile({"edge", "sharded"})
+public class TaskStoreController {
+  private final TaskStoreService taskService;
+
+  public TaskStoreController(TaskStoreService taskService) {
+    this.taskService = taskService;
+  }
+
+  @PostMapping
+  public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody CreateTaskRequest request) {
+    TaskResponse response = taskService.createTask(request);
+    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+  }
+
+  @GetMapping
+  public TaskPage getTasks(
+      @RequestParam(required = false) Long afterId,
+      @RequestParam(required = false) Integer limit) {
+    return taskService.getTasks(afterId, limit);
+  }
+
+  @GetMapping("/urgent")
+  public List<TaskResponse> getUrgentTasks(@RequestParam(required = false) Integer limit) {
+    return taskService.getUrgentTasks(limit);
+  }
+
+  @GetMapping("/{id}")
+  public ResponseEntity<TaskResponse> getTask(
+      @PathVariable Long id,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+    return TaskController.taskEntity(taskService.getTask(id), accept);
+  }
+
+  @PutMapping("/{id}")
+  public ResponseEntity<TaskResponse> updateTask(
+      @PathVariable Long id,
+      @Valid @RequestBody UpdateTaskRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+    TaskResponse task =
+        taskService.updateTask(id, request, TaskController.matchingVersions(ifMatch));
+    return TaskController.taskEntity(task, accept);
+  }
+
+  @DeleteMapping("/{id}")
+  public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
+    taskService.deleteTask(id);
+    return ResponseEntity.noContent().build();
+  }
+}
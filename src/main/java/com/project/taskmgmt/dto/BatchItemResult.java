@@ -0,0 +1,16 @@
+package com.project.taskmgmt.dto;
+
+/**
+ * Outcome of one item in a batch request, reported at the item's position in the request.
+ * {@code outcome} is one of CREATED, UPDATED, UNCHANGED, DELETED, CONFLICT, NOT_FOUND or INVALID.
+ */
+public record BatchItemResult(int index, Long id, String outcome, TaskResponse task, String error) {
+
+  public static BatchItemResult succeeded(int index, String outcome, TaskResponse task) {
+    return new BatchItemResult(index, task.id(), outcome, task, null);
+  }
+
+  public static BatchItemResult failed(int index, Long id, String outcome, String error) {
+    return new BatchItemResult(index, id, outcome, null, error);
+  }
+}
@@ -0,0 +1,16 @@
+package com.project.taskmgmt.dto;
+
+/**
+ * One entry of a batch update: the target task id plus the usual partial-update fields.
+ */
+public class BatchUpdateTaskRequest extends UpdateTaskRequest {
+  private Long id;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+}
@@ -2,11 +2,14 @@ package com.project.taskmgmt.dto;
 
 import com.project.taskmgmt.entity.Priority;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 public class CreateTaskRequest {
   @NotBlank(message = "title must not be blank")
+  @Size(max = 255, message = "title must not exceed 255 characters")
   private String title;
 
+  @Size(max = 2000, message = "description must not exceed 2000 characters")
   private String description;
 
   private Priority priority;
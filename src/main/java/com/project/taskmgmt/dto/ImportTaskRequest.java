@@ -0,0 +1,51 @@
+package com.project.taskmgmt.dto;
+
+import com.project.taskmgmt.entity.Status;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One record of a bulk import: a {@code POST /tasks} body plus the state a task carries in an
+ * export, so exported tasks are imported as they were. Missing values default as for a new task.
+ */
+public class ImportTaskRequest extends CreateTaskRequest {
+  private Status status;
+
+  private Instant createdAt;
+
+  private LocalDate createdDate;
+
+  private Instant completedAt;
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public void setStatus(Status status) {
+    this.status = status;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public LocalDate getCreatedDate() {
+    return createdDate;
+  }
+
+  public void setCreatedDate(LocalDate createdDate) {
+    this.createdDate = createdDate;
+  }
+
+  public Instant getCompletedAt() {
+    return completedAt;
+  }
+
+  public void setCompletedAt(Instant completedAt) {
+    this.completedAt = completedAt;
+  }
+}
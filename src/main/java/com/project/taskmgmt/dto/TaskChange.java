@@ -0,0 +1,12 @@
+package com.project.taskmgmt.dto;
+
+import java.time.Instant;
+
+/**
+ * One entry of the task change feed.
+ * {@code type} is CREATED, UPDATED, COMPLETED or DELETED, with {@code task} holding the task after
+ * the change (null for DELETED); RESET tells the client to reload through {@code GET /tasks}
+ * because the changes it missed are no longer available.
+ */
+public record TaskChange(
+    long sequence, String type, Long taskId, TaskResponse task, Instant occurredAt) {}
@@ -0,0 +1,19 @@
+package com.project.taskmgmt.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Tasks created or modified and tasks deleted since a sync cursor.
+ * Pass {@code nextChangedSince} and {@code nextAfterId} back as {@code changedSince} and
+ * {@code afterId} to continue; {@code hasMore} means another page is ready right away.
+ * Deletions may be reported more than once, so clients should apply them idempotently.
+ * Changes show up only once they are older than {@code tasks.sync.commit-lag}, so a write that
+ * was still committing when a later one was synced is not skipped.
+ */
+public record TaskDelta(
+    List<TaskResponse> changed,
+    List<TaskTombstone> deleted,
+    Instant nextChangedSince,
+    Long nextAfterId,
+    boolean hasMore) {}
@@ -0,0 +1,6 @@
+package com.project.taskmgmt.dto;
+
+/**
+ * A written export snapshot: the name to download it by and its compressed size.
+ */
+public record TaskExportSnapshot(String name, long bytes) {}
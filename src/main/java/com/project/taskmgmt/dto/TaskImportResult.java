@@ -0,0 +1,8 @@
+package com.project.taskmgmt.dto;
+
+/**
+ * Outcome of one import run. Records up to the checkpoint of an earlier run of the same job are
+ * {@code skipped}; rejected records are listed with their reason in {@code rejectsFile}.
+ */
+public record TaskImportResult(
+    String jobId, long read, long imported, long rejected, long skipped, String rejectsFile) {}
@@ -0,0 +1,9 @@
+package com.project.taskmgmt.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of tasks; {@code nextCursor} is the id to pass as {@code afterId}, or null at
+ * the end.
+ */
+public record TaskPage(List<TaskResponse> items, Long nextCursor) {}
@@ -0,0 +1,133 @@
+package com.project.taskmgmt.dto;
+
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Filters, sort and projection for {@code GET /tasks/query}, bound from query parameters.
+ * Ranges are inclusive of {@code from} and exclusive of {@code to}. {@code sort} is a comma
+ * separated list of fields, each optionally prefixed with {@code -} for descending order;
+ * {@code fields} lists the task fields to return.
+ */
+public class TaskQuery {
+  private List<Status> status;
+
+  private List<Priority> priority;
+
+  private Instant createdFrom;
+
+  private Instant createdTo;
+
+  private Instant completedFrom;
+
+  private Instant completedTo;
+
+  private String sort;
+
+  private List<String> fields;
+
+  private Integer offset;
+
+  /**
+   * Whether any filter, sort, projection or offset was requested.
+   */
+  public boolean isPresent() {
+    return status != null
+        || priority != null
+        || createdFrom != null
+        || createdTo != null
+        || completedFrom != null
+        || completedTo != null
+        || sort != null
+        || fields != null
+        || offset != null;
+  }
+
+  public List<Status> getStatus() {
+    return status;
+  }
+
+  public void setStatus(List<Status> status) {
+    this.status = status;
+  }
+
+  public List<Priority> getPriority() {
+    return priority;
+  }
+
+  public void setPriority(List<Priority> priority) {
+    this.priority = priority;
+  }
+
+  public Instant getCreatedFrom() {
+    return createdFrom;
+  }
+
+  public void setCreatedFrom(Instant createdFrom) {
+    this.createdFrom = createdFrom;
+  }
+
+  public Instant getCreatedTo() {
+    return createdTo;
+  }
+
+  public void setCreatedTo(Instant createdTo) {
+    this.createdTo = createdTo;
+  }
+
+  public Instant getCompletedFrom() {
+    return completedFrom;
+  }
+
+  public void setCompletedFrom(Instant completedFrom) {
+    this.completedFrom = completedFrom;
+  }
+
+  public Instant getCompletedTo() {
+    return completedTo;
+  }
+
+  public void setCompletedTo(Instant completedTo) {
+    this.completedTo = completedTo;
+  }
+
+  public String getSort() {
+    return sort;
+  }
+
+  public void setSort(String sort) {
+    this.sort = sort;
+  }
+
+  public List<String> getFields() {
+    return fields;
+  }
+
+  public void setFields(List<String> fields) {
+    this.fields = fields;
+  }
+
+  public Integer getOffset() {
+    return offset;
+  }
+
+  public void setOffset(Integer offset) {
+    this.offset = offset;
+  }
+
+  @Override
+  public String toString() {
+    return "TaskQuery{status=" + status
+        + ", priority=" + priority
+        + ", createdFrom=" + createdFrom
+        + ", createdTo=" + createdTo
+        + ", completedFrom=" + completedFrom
+        + ", completedTo=" + completedTo
+        + ", sort=" + sort
+        + ", fields=" + fields
+        + ", offset=" + offset
+        + "}";
+  }
+}
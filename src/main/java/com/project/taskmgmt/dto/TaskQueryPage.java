@@ -0,0 +1,10 @@
+package com.project.taskmgmt.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of a filtered task query; each item holds only the requested fields.
+ * {@code nextOffset} is the offset of the next page, or null at the end.
+ */
+public record TaskQueryPage(List<Map<String, Object>> items, Integer nextOffset) {}
@@ -11,4 +11,6 @@ public record TaskResponse(
     Priority priority,
     Status status,
     Instant createdAt,
-    Instant completedAt) {}
+    Instant completedAt,
+    Instant updatedAt,
+    Long version) {}
@@ -0,0 +1,6 @@
+package com.project.taskmgmt.dto;
+
+/**
+ * A task matching a search and its relevance score; higher scores rank first.
+ */
+public record TaskSearchHit(TaskResponse task, double score) {}
@@ -0,0 +1,9 @@
+package com.project.taskmgmt.dto;
+
+import java.util.List;
+
+/**
+ * One page of search results, best match first. {@code total} counts every matching task and
+ * {@code nextOffset} is the offset of the next page, or null at the end.
+ */
+public record TaskSearchPage(List<TaskSearchHit> items, int total, Integer nextOffset) {}
@@ -0,0 +1,19 @@
+package com.project.taskmgmt.dto;
+
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Aggregate view of all tasks. {@code completedPerDay} covers the recent completion window (UTC
+ * days, days without completions omitted) and {@code averageTimeToCompletion} is null while no task
+ * is done.
+ */
+public record TaskStats(
+    long total,
+    Map<Status, Long> byStatus,
+    Map<Priority, Long> byPriority,
+    Map<LocalDate, Long> completedPerDay,
+    Duration averageTimeToCompletion) {}
@@ -0,0 +1,8 @@
+package com.project.taskmgmt.dto;
+
+import java.time.Instant;
+
+/**
+ * A task deleted or archived within the requested sync window.
+ */
+public record TaskTombstone(Long id, Instant deletedAt) {}
@@ -3,11 +3,14 @@ package com.project.taskmgmt.dto;
 import com.project.taskmgmt.entity.Priority;
 import com.project.taskmgmt.entity.Status;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 public class UpdateTaskRequest {
   @Pattern(regexp = ".*\\S.*", message = "title must not be blank")
+  @Size(max = 255, message = "title must not exceed 255 characters")
   private String title;
 
+  @Size(max = 2000, message = "description must not exceed 2000 characters")
   private String description;
 
   private Priority priority;
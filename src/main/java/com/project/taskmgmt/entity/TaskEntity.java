@@ -7,8 +7,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.time.Instant;
 import java.time.LocalDate;
 
@@ -19,11 +22,31 @@ import java.time.LocalDate;
 @Table(
     name = "tasks",
     uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"title", "created_date"})
+        @UniqueConstraint(
+            name = TaskEntity.TITLE_PER_DAY_CONSTRAINT,
+            columnNames = {"title", "created_date"})
+    },
+    indexes = {
+        // Serves the urgent query as one ordered range scan per priority.
+        @Index(
+            name = "idx_tasks_status_priority_created_at",
+            columnList = "status, priority, created_at"),
+        // Serves incremental sync as one ordered range scan from the client's cursor.
+        @Index(name = "idx_tasks_updated_at_id", columnList = "updated_at, id"),
+        // Serve created/completed range filters of GET /tasks/query.
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_status_completed_at", columnList = "status, completed_at")
     })
 public class TaskEntity {
+  /**
+   * Name of the unique constraint that enforces one title per calendar day.
+   */
+  public static final String TITLE_PER_DAY_CONSTRAINT = "uk_tasks_title_created_date";
+
+  // Pooled sequence ids let Hibernate batch inserts; IDENTITY forces one round trip per row.
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+  @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -49,6 +72,13 @@ public class TaskEntity {
   @Column(name = "created_date", nullable = false)
   private LocalDate createdDate;
 
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
   public Long getId() {
     return id;
   }
@@ -113,4 +143,20 @@ public class TaskEntity {
     this.createdDate = createdDate;
   }
 
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(Instant updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
 }
@@ -0,0 +1,61 @@
+package com.project.taskmgmt.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * Marker left behind by a deleted task so incremental sync can report the deletion.
+ * Tombstones are purged after the configured sync retention.
+ */
+@Entity
+@Table(
+    name = "task_tombstones",
+    indexes = {
+      @Index(name = "idx_task_tombstones_deleted_at_task_id", columnList = "deleted_at, task_id")
+    })
+public class TaskTombstoneEntity {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_tombstones_seq")
+  @SequenceGenerator(
+      name = "task_tombstones_seq",
+      sequenceName = "task_tombstones_seq",
+      allocationSize = 50)
+  private Long id;
+
+  @Column(name = "task_id", nullable = false)
+  private Long taskId;
+
+  @Column(name = "deleted_at", nullable = false)
+  private Instant deletedAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getTaskId() {
+    return taskId;
+  }
+
+  public void setTaskId(Long taskId) {
+    this.taskId = taskId;
+  }
+
+  public Instant getDeletedAt() {
+    return deletedAt;
+  }
+
+  public void setDeletedAt(Instant deletedAt) {
+    this.deletedAt = deletedAt;
+  }
+}
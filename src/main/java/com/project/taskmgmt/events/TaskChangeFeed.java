@@ -0,0 +1,212 @@
+package com.project.taskmgmt.events;
+
+import com.project.taskmgmt.dto.TaskChange;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Fan-out of committed task changes to feed subscribers.
+ * Every change gets a sequence number and is kept in a bounded history so a reconnecting client
+ * can resume after the last event it saw. Each subscriber has a bounded queue drained on the task
+ * executor; a subscriber that falls behind by more than its queue is closed and resumes from the
+ * history on reconnect, so a slow client never holds back writers or other subscribers.
+ */
+@Component
+public class TaskChangeFeed {
+  private static final Logger log = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+  /**
+   * Delivers feed entries to one client; {@code send} and {@code heartbeat} never overlap.
+   */
+  public interface Sink {
+    void send(TaskChange change) throws IOException;
+
+    void heartbeat() throws IOException;
+
+    void close();
+  }
+
+  private final Executor executor;
+  private final int historySize;
+  private final int subscriberBuffer;
+  // Distinguishes sequence numbers of this process from those of an earlier run.
+  private final long epoch = System.currentTimeMillis();
+  private final Deque<TaskChange> history = new ArrayDeque<>();
+  private final Set<Subscription> subscribers = ConcurrentHashMap.newKeySet();
+  private long sequence;
+
+  public TaskChangeFeed(
+      @Qualifier("applicationTaskExecutor") Executor executor,
+      MeterRegistry registry,
+      @Value("${tasks.changes.history-size:10000}") int historySize,
+      @Value("${tasks.changes.subscriber-buffer:1000}") int subscriberBuffer) {
+    this.executor = executor;
+    this.historySize = historySize;
+    this.subscriberBuffer = subscriberBuffer;
+    Gauge.builder("tasks.changes.subscribers", subscribers, Set::size)
+        .description("Open change feed subscriptions")
+        .register(registry);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    publish(event);
+  }
+
+  /**
+   * Registers a subscriber. With a {@code lastEventId} the changes after it are replayed first;
+   * when they are no longer in the history the subscriber receives a RESET entry instead.
+   */
+  public synchronized Subscription subscribe(String lastEventId, Sink sink) {
+    Subscription subscription = new Subscription(sink);
+    if (lastEventId != null) {
+      Long since = parseSequence(lastEventId);
+      long oldest = history.isEmpty() ? sequence + 1 : history.peekFirst().sequence();
+      if (since == null || since > sequence || since + 1 < oldest
+          || sequence - since > subscriberBuffer) {
+        subscription.offer(new TaskChange(sequence, "RESET", null, null, Instant.now()));
+      } else {
+        for (TaskChange change : history) {
+          if (change.sequence() > since) {
+            subscription.offer(change);
+          }
+        }
+      }
+    }
+    subscribers.add(subscription);
+    return subscription;
+  }
+
+  /**
+   * Event id of a feed entry, to be sent back as {@code Last-Event-ID} when resuming.
+   */
+  public String eventId(TaskChange change) {
+    return epoch + "-" + change.sequence();
+  }
+
+  /**
+   * Keeps idle connections alive and detects clients that went away without closing.
+   */
+  @Scheduled(fixedDelayString = "${tasks.changes.heartbeat-interval-ms:15000}")
+  public void heartbeat() {
+    for (Subscription subscription : subscribers) {
+      executor.execute(subscription::heartbeat);
+    }
+  }
+
+  private synchronized void publish(TaskChangedEvent event) {
+    TaskChange change =
+        new TaskChange(++sequence, event.type(), event.taskId(), event.current(), Instant.now());
+    history.addLast(change);
+    if (history.size() > historySize) {
+      history.removeFirst();
+    }
+    for (Subscription subscription : subscribers) {
+      subscription.offer(change);
+    }
+  }
+
+  private Long parseSequence(String eventId) {
+    int separator = eventId.indexOf('-');
+    if (separator < 0) {
+      return null;
+    }
+    try {
+      long eventEpoch = Long.parseLong(eventId.substring(0, separator));
+      long eventSequence = Long.parseLong(eventId.substring(separator + 1));
+      return eventEpoch == epoch && eventSequence >= 0 ? eventSequence : null;
+    } catch (NumberFormatException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * One subscriber's bounded queue and the handle to cancel it.
+   */
+  public final class Subscription {
+    private final Sink sink;
+    private final BlockingQueue<TaskChange> queue = new ArrayBlockingQueue<>(subscriberBuffer);
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Subscription(Sink sink) {
+      this.sink = sink;
+    }
+
+    public void cancel() {
+      if (closed.compareAndSet(false, true)) {
+        subscribers.remove(this);
+      }
+    }
+
+    private void offer(TaskChange change) {
+      if (closed.get()) {
+        return;
+      }
+      if (!queue.offer(change)) {
+        log.info("Change feed subscriber fell behind, closing. buffered={}", queue.size());
+        cancel();
+        executor.execute(sink::close);
+        return;
+      }
+      scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+      if (draining.compareAndSet(false, true)) {
+        executor.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      try {
+        TaskChange next;
+        while (!closed.get() && (next = queue.poll()) != null) {
+          sink.send(next);
+        }
+      } catch (IOException | RuntimeException ex) {
+        log.debug("Change feed subscriber disconnected: {}", ex.getMessage());
+        cancel();
+      } finally {
+        draining.set(false);
+      }
+      if (!closed.get() && !queue.isEmpty()) {
+        scheduleDrain();
+      }
+    }
+
+    private void heartbeat() {
+      if (closed.get() || !draining.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        sink.heartbeat();
+      } catch (IOException | RuntimeException ex) {
+        log.debug("Change feed subscriber disconnected: {}", ex.getMessage());
+        cancel();
+      } finally {
+        draining.set(false);
+      }
+      if (!closed.get() && !queue.isEmpty()) {
+        scheduleDrain();
+      }
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.project.taskmgmt.events;
+
+import com.project.taskmgmt.dto.TaskResponse;
+
+/**
+ * In-process notification of a committed task change.
+ * {@code previous} is null for CREATED and {@code current} is null for DELETED.
+ */
+public record TaskChangedEvent(String type, TaskResponse previous, TaskResponse current) {
+
+  public Long taskId() {
+    return current != null ? current.id() : previous.id();
+  }
+
+  /**
+   * Orders the changes of one task, whose after-commit listeners may run out of commit order:
+   * the new version, or one past the last version for a removal, which supersedes every state.
+   */
+  public long version() {
+    TaskResponse task = current != null ? current : previous;
+    long version = task.version() != null ? task.version() : 0;
+    return current != null ? version : version + 1;
+  }
+}
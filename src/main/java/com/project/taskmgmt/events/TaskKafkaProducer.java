@@ -1,5 +1,9 @@
 package com.project.taskmgmt.events;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -13,29 +17,47 @@ public class TaskKafkaProducer {
   private static final Logger log = LoggerFactory.getLogger(TaskKafkaProducer.class);
 
   private final KafkaTemplate<String, TaskEvent> kafkaTemplate;
+  private final MeterRegistry registry;
+  private final Counter failures;
+  private final Counter skipped;
 
-  public TaskKafkaProducer(KafkaTemplate<String, TaskEvent> kafkaTemplate) {
+  public TaskKafkaProducer(KafkaTemplate<String, TaskEvent> kafkaTemplate, MeterRegistry registry) {
     this.kafkaTemplate = kafkaTemplate;
+    this.registry = registry;
+    this.failures =
+        Counter.builder("tasks.kafka.failures")
+            .description("Events the broker did not acknowledge")
+            .register(registry);
+    this.skipped =
+        Counter.builder("tasks.kafka.skipped")
+            .description("Events rejected before reaching the broker, e.g. no metadata")
+            .register(registry);
   }
 
   /**
-   * Publishes a single task event to the tasks-events topic.
-   * Kafka publishing is best-effort and must not affect task creation.
+   * Publishes a single task event to the tasks-events topic, keyed by task id.
+   * The returned future completes when the broker acknowledges the event and completes
+   * exceptionally if Kafka is not available; callers decide whether to retry.
    */
-  public void send(TaskEvent event) {
+  public CompletableFuture<Void> send(TaskEvent event) {
+    Timer.Sample sample = Timer.start(registry);
     try {
-      kafkaTemplate
+      return kafkaTemplate
           .send("tasks-events", event.taskId().toString(), event)
+          .thenAccept(result -> log.debug("Task event sent successfully. taskId={}", event.taskId()))
           .whenComplete(
               (result, ex) -> {
-                if (ex == null) {
-                  log.info("Task event sent successfully. taskId={}", event.taskId());
-                } else {
-                  log.info("Kafka not available, event skipped. taskId={}", event.taskId());
+                String outcome = ex == null ? "success" : "failure";
+                sample.stop(registry.timer("tasks.kafka.send", "outcome", outcome));
+                if (ex != null) {
+                  failures.increment();
+                  log.debug("Kafka not available, event deferred. taskId={}", event.taskId());
                 }
               });
     } catch (RuntimeException ex) {
-      log.info("Kafka not available, event skipped. taskId={}", event.taskId());
+      skipped.increment();
+      log.debug("Kafka not available, event deferred. taskId={}", event.taskId());
+      return CompletableFuture.failedFuture(ex);
     }
   }
 }
@@ -0,0 +1,35 @@
+package com.project.taskmgmt.events;
+
+import com.project.taskmgmt.entity.TaskOutboxEntity;
+import com.project.taskmgmt.repository.TaskOutboxRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records task events in the outbox table as part of the caller's transaction.
+ * Publishing to Kafka happens later in {@link TaskOutboxRelay}, off the request path.
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskOutbox {
+  private final TaskOutboxRepository repository;
+
+  public TaskOutbox(TaskOutboxRepository repository) {
+    this.repository = repository;
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void enqueue(TaskEvent event) {
+    repository.save(toEntity(event));
+  }
+
+  private TaskOutboxEntity toEntity(TaskEvent event) {
+    TaskOutboxEntity entity = new TaskOutboxEntity();
+    entity.setTaskId(event.taskId());
+    entity.setEventType(event.type());
+    entity.setOccurredAt(event.timestamp());
+    return entity;
+  }
+}
@@ -0,0 +1,147 @@
+package com.project.taskmgmt.events;
+
+import com.project.taskmgmt.entity.TaskOutboxEntity;
+import com.project.taskmgmt.repository.TaskOutboxRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the task outbox to Kafka in batches.
+ * Every event of a batch is handed to the producer at once so linger and compression can group
+ * them; rows are marked sent only after the broker acknowledges them. Once an event of a task
+ * fails, later events of the same task in the batch stay unsent as well, so a retry redelivers
+ * them in their original order (at-least-once, ordered per task key).
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskOutboxRelay {
+  private static final Logger log = LoggerFactory.getLogger(TaskOutboxRelay.class);
+
+  private final TaskOutboxRepository repository;
+  private final TaskKafkaProducer producer;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final int batchSize;
+  private final long sendTimeoutMs;
+  private final Duration retention;
+
+  public TaskOutboxRelay(
+      TaskOutboxRepository repository,
+      TaskKafkaProducer producer,
+      TransactionTemplate transactionTemplate,
+      @Value("${tasks.outbox.relay.enabled:true}") boolean enabled,
+      @Value("${tasks.outbox.relay.batch-size:500}") int batchSize,
+      @Value("${tasks.outbox.relay.send-timeout-ms:20000}") long sendTimeoutMs,
+      @Value("${tasks.outbox.retention:PT1H}") Duration retention) {
+    this.repository = repository;
+    this.producer = producer;
+    this.transactionTemplate = transactionTemplate;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.sendTimeoutMs = sendTimeoutMs;
+    this.retention = retention;
+  }
+
+  @Scheduled(fixedDelayString = "${tasks.outbox.relay.interval-ms:200}")
+  public void scheduledRelay() {
+    if (!enabled) {
+      return;
+    }
+    int relayed;
+    do {
+      relayed = relayPending();
+    } while (relayed == batchSize);
+  }
+
+  @Scheduled(fixedDelayString = "${tasks.outbox.purge-interval-ms:60000}")
+  public void scheduledPurge() {
+    if (!enabled) {
+      return;
+    }
+    Instant cutoff = Instant.now().minus(retention);
+    Integer purged = transactionTemplate.execute(status -> repository.deleteSentBefore(cutoff));
+    if (purged != null && purged > 0) {
+      log.info("Purged sent outbox events. count={}", purged);
+    }
+  }
+
+  /**
+   * Publishes one batch of unsent events and marks the acknowledged ones as sent.
+   *
+   * @return number of events marked sent
+   */
+  public int relayPending() {
+    List<TaskOutboxEntity> batch =
+        transactionTemplate.execute(
+            status -> repository.findBySentAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize)));
+    if (batch == null || batch.isEmpty()) {
+      return 0;
+    }
+
+    List<CompletableFuture<Void>> sends = new ArrayList<>(batch.size());
+    for (TaskOutboxEntity entry : batch) {
+      CompletableFuture<Void> send = producer.send(toEvent(entry));
+      sends.add(send);
+      if (send.isCompletedExceptionally()) {
+        // Rejected before reaching the broker (e.g. no metadata); the rest would block the same way.
+        break;
+      }
+    }
+
+    List<Long> sentIds = new ArrayList<>(batch.size());
+    Set<Long> blockedTasks = new HashSet<>();
+    for (int i = 0; i < sends.size(); i++) {
+      TaskOutboxEntity entry = batch.get(i);
+      boolean acknowledged = awaitAcknowledgement(sends.get(i));
+      if (!acknowledged) {
+        blockedTasks.add(entry.getTaskId());
+      } else if (!blockedTasks.contains(entry.getTaskId())) {
+        sentIds.add(entry.getId());
+      }
+    }
+
+    if (!sentIds.isEmpty()) {
+      Instant sentAt = Instant.now();
+      transactionTemplate.executeWithoutResult(status -> repository.markSent(sentIds, sentAt));
+    }
+    if (!blockedTasks.isEmpty()) {
+      log.info(
+          "Kafka not available, outbox events deferred. sent={}, deferredTasks={}",
+          sentIds.size(),
+          blockedTasks.size());
+    }
+    return sentIds.size();
+  }
+
+  private boolean awaitAcknowledgement(CompletableFuture<Void> send) {
+    try {
+      send.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+      return true;
+    } catch (ExecutionException | TimeoutException ex) {
+      return false;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private TaskEvent toEvent(TaskOutboxEntity entry) {
+    return new TaskEvent(entry.getTaskId(), entry.getEventType(), entry.getOccurredAt());
+  }
+}
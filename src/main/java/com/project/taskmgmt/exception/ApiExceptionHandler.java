@@ -5,10 +5,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 
 
 @RestControllerAdvice
@@ -21,12 +27,57 @@ public class ApiExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
   }
 
+  @ExceptionHandler(SnapshotNotFoundException.class)
+  public ResponseEntity<String> handleSnapshotNotFound(SnapshotNotFoundException ex) {
+    log.warn("Export snapshot not found: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+  }
+
   @ExceptionHandler(DuplicateTaskException.class)
   public ResponseEntity<String> handleDuplicate(DuplicateTaskException ex) {
     log.warn("Duplicate task creation attempt: {}", ex.getMessage());
     return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
   }
 
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<String> handleConcurrentUpdate(OptimisticLockingFailureException ex) {
+    String message = "Task was modified concurrently; reload and retry";
+    log.warn("Concurrent update rejected: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(message);
+  }
+
+  @ExceptionHandler(TaskVersionMismatchException.class)
+  public ResponseEntity<String> handleVersionMismatch(TaskVersionMismatchException ex) {
+    log.warn("Precondition failed: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ex.getMessage());
+  }
+
+  @ExceptionHandler(SyncWindowExpiredException.class)
+  public ResponseEntity<String> handleSyncWindowExpired(SyncWindowExpiredException ex) {
+    log.warn("Sync window expired: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.GONE).body(ex.getMessage());
+  }
+
+  @ExceptionHandler(TaskCommitTimeoutException.class)
+  public ResponseEntity<String> handleCommitTimeout(TaskCommitTimeoutException ex) {
+    log.warn("Task commit timed out: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+  }
+
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  public ResponseEntity<String> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+    String message = "Invalid value for parameter '" + ex.getName() + "'";
+    log.warn("Validation error: {}", message);
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
+  }
+
+  @ExceptionHandler(MissingServletRequestParameterException.class)
+  public ResponseEntity<String> handleMissingParameter(MissingServletRequestParameterException ex) {
+    String message = "Missing parameter '" + ex.getParameterName() + "'";
+    log.warn("Validation error: {}", message);
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<String> handleValidation(MethodArgumentNotValidException ex) {
     String message =
@@ -38,6 +89,25 @@ public class ApiExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
   }
 
+  @ExceptionHandler(WebExchangeBindException.class)
+  public ResponseEntity<String> handleReactiveValidation(WebExchangeBindException ex) {
+    String message =
+        ex.getFieldErrors().stream()
+            .findFirst()
+            .map(error -> error.getDefaultMessage())
+            .orElse("Validation failed");
+    log.warn("Validation error: {}", message);
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
+  }
+
+  @ExceptionHandler(ServerWebInputException.class)
+  public ResponseEntity<String> handleReactiveInput(ServerWebInputException ex) {
+    String message =
+        ex.getCause() instanceof DecodingException ? "Invalid request body" : "Invalid request";
+    log.warn("Validation error: {}", message);
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
+  }
+
   @ExceptionHandler(ValidationException.class)
   public ResponseEntity<String> handleValidationException(ValidationException ex) {
     log.warn("Validation error: {}", ex.getMessage());
@@ -6,4 +6,8 @@ public class DuplicateTaskException extends RuntimeException {
   public DuplicateTaskException(String title, LocalDate createdDate) {
     super("Task with title '" + title + "' already exists for date " + createdDate);
   }
+
+  public DuplicateTaskException(String message) {
+    super(message);
+  }
 }
@@ -0,0 +1,7 @@
+package com.project.taskmgmt.exception;
+
+public class SnapshotNotFoundException extends RuntimeException {
+  public SnapshotNotFoundException(String name) {
+    super("Export snapshot not found: " + name);
+  }
+}
@@ -0,0 +1,14 @@
+package com.project.taskmgmt.exception;
+
+import java.time.Instant;
+
+public class SyncWindowExpiredException extends RuntimeException {
+  public SyncWindowExpiredException(Instant changedSince, Instant oldestAvailable) {
+    super(
+        "Changes since "
+            + changedSince
+            + " are no longer available (oldest is "
+            + oldestAvailable
+            + "); reload with GET /tasks");
+  }
+}
@@ -0,0 +1,10 @@
+package com.project.taskmgmt.exception;
+
+public class TaskCommitTimeoutException extends RuntimeException {
+  public TaskCommitTimeoutException(long timeoutMs) {
+    super(
+        "Task creation was not confirmed within "
+            + timeoutMs
+            + " ms; it may still be committed, check before retrying");
+  }
+}
@@ -0,0 +1,7 @@
+package com.project.taskmgmt.exception;
+
+public class TaskVersionMismatchException extends RuntimeException {
+  public TaskVersionMismatchException(Long id, Long currentVersion) {
+    super("Task " + id + " has changed; current version is " + currentVersion);
+  }
+}
@@ -1,7 +1,9 @@
 package com.project.taskmgmt.mapper;
 
 import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.ArchivedTaskEntity;
 import com.project.taskmgmt.entity.TaskEntity;
+import java.time.Instant;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -14,6 +16,37 @@ public class TaskMapper {
         task.getPriority(),
         task.getStatus(),
         task.getCreatedAt(),
-        task.getCompletedAt());
+        task.getCompletedAt(),
+        task.getUpdatedAt(),
+        task.getVersion());
+  }
+
+  public TaskResponse toResponse(ArchivedTaskEntity task) {
+    return new TaskResponse(
+        task.getId(),
+        task.getTitle(),
+        task.getDescription(),
+        task.getPriority(),
+        task.getStatus(),
+        task.getCreatedAt(),
+        task.getCompletedAt(),
+        task.getUpdatedAt(),
+        task.getVersion());
+  }
+
+  public ArchivedTaskEntity toArchived(TaskEntity task, Instant archivedAt) {
+    ArchivedTaskEntity archived = new ArchivedTaskEntity();
+    archived.setId(task.getId());
+    archived.setTitle(task.getTitle());
+    archived.setDescription(task.getDescription());
+    archived.setPriority(task.getPriority());
+    archived.setStatus(task.getStatus());
+    archived.setCreatedAt(task.getCreatedAt());
+    archived.setCompletedAt(task.getCompletedAt());
+    archived.setCreatedDate(task.getCreatedDate());
+    archived.setUpdatedAt(task.getUpdatedAt());
+    archived.setVersion(task.getVersion());
+    archived.setArchivedAt(archivedAt);
+    return archived;
   }
 }
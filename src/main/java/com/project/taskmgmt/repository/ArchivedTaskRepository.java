@@ -0,0 +1,30 @@
+package com.project.taskmgmt.repository;
+
+import com.project.taskmgmt.entity.ArchivedTaskEntity;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTaskEntity, Long> {
+
+  /**
+   * Keyset page of archived tasks with an id greater than the cursor, in id order.
+   */
+  List<ArchivedTaskEntity> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+  /**
+   * Forward-only cursor over every archived task in id order, like
+   * {@link TaskRepository#streamAllOrderedById}.
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select t from ArchivedTaskEntity t order by t.id")
+  Stream<ArchivedTaskEntity> streamAllOrderedById();
+}
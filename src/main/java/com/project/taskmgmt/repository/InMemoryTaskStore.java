@@ -0,0 +1,279 @@
+package com.project.taskmgmt.repository;
+
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.exception.DuplicateTaskException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Heap-resident {@link TaskStore} for the edge profile.
+ * Tasks live in a concurrent map keyed by id. Secondary indexes cover id order for paging,
+ * (title, created date) for the uniqueness rule (claimed with an atomic put-if-absent), and
+ * status and priority buckets ordered by creation time. Reads never block. Writes to one task
+ * serialize on its map entry, which also keeps its index and log updates in order. Writes are
+ * appended to the {@link TaskWriteAheadLog} when it is enabled, and replayed from it at startup.
+ * When the log needs compaction, a background thread snapshots the live tasks one entry at a time,
+ * so writers are never blocked for the whole snapshot.
+ */
+@Component
+@Profile("edge")
+public class InMemoryTaskStore implements TaskStore {
+  private static final Logger log = LoggerFactory.getLogger(InMemoryTaskStore.class);
+
+  private record TitleKey(String title, LocalDate createdDate) {}
+
+  private record CreatedKey(Instant createdAt, long id) {}
+
+  private static final Comparator<CreatedKey> OLDEST_FIRST =
+      Comparator.comparing(CreatedKey::createdAt).thenComparingLong(CreatedKey::id);
+
+  private final TaskWriteAheadLog writeAheadLog;
+  private final AtomicLong lastId = new AtomicLong();
+  private final ConcurrentHashMap<Long, TaskEntity> tasks = new ConcurrentHashMap<>();
+  private final ConcurrentSkipListSet<Long> ids = new ConcurrentSkipListSet<>();
+  private final ConcurrentHashMap<TitleKey, Long> titles = new ConcurrentHashMap<>();
+  private final Map<Status, Map<Priority, ConcurrentSkipListSet<CreatedKey>>> buckets =
+      new EnumMap<>(Status.class);
+
+  public InMemoryTaskStore(TaskWriteAheadLog writeAheadLog) {
+    this.writeAheadLog = writeAheadLog;
+    for (Status status : Status.values()) {
+      Map<Priority, ConcurrentSkipListSet<CreatedKey>> byPriority = new EnumMap<>(Priority.class);
+      for (Priority priority : Priority.values()) {
+        byPriority.put(priority, new ConcurrentSkipListSet<>(OLDEST_FIRST));
+      }
+      buckets.put(status, byPriority);
+    }
+    writeAheadLog.replay(
+        this::restore, this::forget, id -> lastId.accumulateAndGet(id, Math::max));
+    if (writeAheadLog.isEnabled()) {
+      log.info("Task store restored from write-ahead log. tasks={}", tasks.size());
+    }
+    if (writeAheadLog.needsCompaction()) {
+      compactLog();
+    }
+  }
+
+  @Override
+  public TaskEntity insert(TaskEntity task) {
+    long id = lastId.incrementAndGet();
+    TaskEntity stored = copy(task);
+    stored.setId(id);
+    stored.setVersion(0L);
+    TitleKey title = titleKey(stored);
+    if (titles.putIfAbsent(title, id) != null) {
+      throw new DuplicateTaskException(stored.getTitle(), stored.getCreatedDate());
+    }
+    try {
+      tasks.compute(
+          id,
+          (key, absent) -> {
+            writeAheadLog.put(stored);
+            ids.add(id);
+            addToBucket(stored);
+            return stored;
+          });
+    } catch (RuntimeException ex) {
+      // Nothing was stored, so the title must not stay claimed.
+      titles.remove(title, id);
+      throw ex;
+    }
+    compactLogIfNeeded();
+    return copy(stored);
+  }
+
+  @Override
+  public TaskEntity update(TaskEntity task) {
+    long id = task.getId();
+    TaskEntity stored =
+        tasks.compute(
+            id,
+            (key, current) -> {
+              if (current == null || !current.getVersion().equals(task.getVersion())) {
+                throw new OptimisticLockingFailureException(
+                    "Task " + id + " was changed or deleted concurrently");
+              }
+              TaskEntity next = copy(task);
+              next.setVersion(current.getVersion() + 1);
+              TitleKey previousTitle = titleKey(current);
+              TitleKey nextTitle = titleKey(next);
+              boolean renamed = !previousTitle.equals(nextTitle);
+              if (renamed && titles.putIfAbsent(nextTitle, id) != null) {
+                throw new DuplicateTaskException(next.getTitle(), next.getCreatedDate());
+              }
+              try {
+                writeAheadLog.put(next);
+              } catch (RuntimeException ex) {
+                if (renamed) {
+                  titles.remove(nextTitle, id);
+                }
+                throw ex;
+              }
+              if (renamed) {
+                titles.remove(previousTitle, id);
+              }
+              if (current.getStatus() != next.getStatus()
+                  || current.getPriority() != next.getPriority()) {
+                removeFromBucket(current);
+                addToBucket(next);
+              }
+              return next;
+            });
+    compactLogIfNeeded();
+    return copy(stored);
+  }
+
+  @Override
+  public Optional<TaskEntity> delete(long id) {
+    TaskEntity[] removed = new TaskEntity[1];
+    tasks.computeIfPresent(
+        id,
+        (key, current) -> {
+          writeAheadLog.delete(id);
+          ids.remove(id);
+          titles.remove(titleKey(current), id);
+          removeFromBucket(current);
+          removed[0] = current;
+          return null;
+        });
+    compactLogIfNeeded();
+    return Optional.ofNullable(removed[0]).map(InMemoryTaskStore::copy);
+  }
+
+  @Override
+  public Optional<TaskEntity> findById(long id) {
+    return Optional.ofNullable(tasks.get(id)).map(InMemoryTaskStore::copy);
+  }
+
+  @Override
+  public List<TaskEntity> findAfterId(long afterId, int limit) {
+    List<TaskEntity> page = new ArrayList<>(Math.min(limit, 256));
+    for (Long id : ids.tailSet(afterId, false)) {
+      if (page.size() == limit) {
+        break;
+      }
+      TaskEntity task = tasks.get(id);
+      if (task != null) {
+        page.add(copy(task));
+      }
+    }
+    return page;
+  }
+
+  @Override
+  public List<TaskEntity> findByStatus(Status status) {
+    List<TaskEntity> result = new ArrayList<>();
+    for (Priority priority : Priority.values()) {
+      result.addAll(findByStatusAndPriority(status, priority, Integer.MAX_VALUE));
+    }
+    return result;
+  }
+
+  @Override
+  public List<TaskEntity> findByStatusAndPriority(Status status, Priority priority, int limit) {
+    List<TaskEntity> result = new ArrayList<>(Math.min(limit, 256));
+    for (CreatedKey key : buckets.get(status).get(priority)) {
+      if (result.size() == limit) {
+        break;
+      }
+      TaskEntity task = tasks.get(key.id());
+      // Skip entries whose task moved to another bucket after the iteration started.
+      if (task != null && task.getStatus() == status && task.getPriority() == priority) {
+        result.add(copy(task));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Snapshots the live tasks into the write-ahead log. Each task is written under its map entry,
+   * so a concurrent write to it lands in the fresh log either before or after its snapshot record.
+   */
+  void compactLog() {
+    writeAheadLog.compact(
+        lastId.get(),
+        sink -> {
+          for (Long id : tasks.keySet()) {
+            tasks.computeIfPresent(
+                id,
+                (key, task) -> {
+                  sink.accept(task);
+                  return task;
+                });
+          }
+        });
+  }
+
+  private void compactLogIfNeeded() {
+    if (writeAheadLog.needsCompaction()) {
+      Thread compaction = new Thread(this::compactLog, "task-wal-compaction");
+      compaction.setDaemon(true);
+      compaction.start();
+    }
+  }
+
+  private void restore(TaskEntity task) {
+    forget(task.getId());
+    tasks.put(task.getId(), task);
+    ids.add(task.getId());
+    titles.put(titleKey(task), task.getId());
+    addToBucket(task);
+    lastId.accumulateAndGet(task.getId(), Math::max);
+  }
+
+  private void forget(long id) {
+    TaskEntity previous = tasks.remove(id);
+    if (previous != null) {
+      ids.remove(id);
+      titles.remove(titleKey(previous), id);
+      removeFromBucket(previous);
+    }
+  }
+
+  private void addToBucket(TaskEntity task) {
+    buckets.get(task.getStatus()).get(task.getPriority()).add(createdKey(task));
+  }
+
+  private void removeFromBucket(TaskEntity task) {
+    buckets.get(task.getStatus()).get(task.getPriority()).remove(createdKey(task));
+  }
+
+  private static TitleKey titleKey(TaskEntity task) {
+    return new TitleKey(task.getTitle(), task.getCreatedDate());
+  }
+
+  private static CreatedKey createdKey(TaskEntity task) {
+    return new CreatedKey(task.getCreatedAt(), task.getId());
+  }
+
+  private static TaskEntity copy(TaskEntity task) {
+    TaskEntity copy = new TaskEntity();
+    copy.setId(task.getId());
+    copy.setTitle(task.getTitle());
+    copy.setDescription(task.getDescription());
+    copy.setPriority(task.getPriority());
+    copy.setStatus(task.getStatus());
+    copy.setCreatedAt(task.getCreatedAt());
+    copy.setCompletedAt(task.getCompletedAt());
+    copy.setCreatedDate(task.getCreatedDate());
+    copy.setUpdatedAt(task.getUpdatedAt());
+    copy.setVersion(task.getVersion());
+    return copy;
+  }
+}
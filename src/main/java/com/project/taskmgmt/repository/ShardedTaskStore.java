@@ -0,0 +1,354 @@
+package com.project.taskmgmt.repository;
+
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.exception.DuplicateTaskException;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link TaskStore} over several databases with the regular schema, for the sharded profile.
+ * A task lives on the shard picked by a hash of its created date, so the per-day title uniqueness
+ * stays a local unique constraint. Ids carry the shard in their upper bits above a per-shard
+ * sequence, which makes them globally unique and routes lookups by id to one shard. Reads that
+ * span shards query every shard in parallel and k-way merge the already ordered partial results.
+ * The number of shards must not change once tasks exist.
+ */
+@Component
+@Profile("sharded")
+public class ShardedTaskStore implements TaskStore, DisposableBean {
+  private static final Logger log = LoggerFactory.getLogger(ShardedTaskStore.class);
+
+  // Ids below 2^53 stay exact in JavaScript clients: 5 shard bits over a 48-bit sequence.
+  static final int SEQUENCE_BITS = 48;
+  static final int MAX_SHARDS = 32;
+
+  private static final int ID_BLOCK = 50;
+  private static final String COLUMNS =
+      "id, title, description, priority, status, created_at, completed_at, created_date,"
+          + " updated_at, version";
+  private static final Comparator<TaskEntity> BY_ID = Comparator.comparing(TaskEntity::getId);
+  private static final Comparator<TaskEntity> OLDEST_FIRST =
+      Comparator.comparing(TaskEntity::getCreatedAt).thenComparing(TaskEntity::getId);
+  private static final RowMapper<TaskEntity> TASK_ROW = ShardedTaskStore::mapTask;
+
+  private static final class Shard {
+    final int index;
+    final HikariDataSource dataSource;
+    final JdbcTemplate jdbc;
+    final TransactionTemplate transactions;
+    private long nextId;
+    private long blockEnd;
+
+    Shard(int index, HikariDataSource dataSource) {
+      this.index = index;
+      this.dataSource = dataSource;
+      this.jdbc = new JdbcTemplate(dataSource);
+      this.transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    /**
+     * Next local id. The schema's sequence steps by the block size, so each value reserves a
+     * block of ids that is handed out from memory.
+     */
+    synchronized long nextLocalId() {
+      if (nextId == blockEnd) {
+        Long start = jdbc.queryForObject("select next value for tasks_seq", Long.class);
+        nextId = start;
+        blockEnd = start + ID_BLOCK;
+      }
+      return nextId++;
+    }
+  }
+
+  private final List<Shard> shards = new ArrayList<>();
+  private final ExecutorService scatter;
+
+  public ShardedTaskStore(
+      @Value("${tasks.sharding.urls}") List<String> urls,
+      @Value("${spring.datasource.username:sa}") String username,
+      @Value("${spring.datasource.password:}") String password,
+      @Value("${tasks.sharding.pool-size:10}") int poolSize) {
+    if (urls.isEmpty() || urls.size() > MAX_SHARDS) {
+      throw new IllegalArgumentException("tasks.sharding.urls needs 1 to " + MAX_SHARDS + " URLs");
+    }
+    for (String url : urls) {
+      HikariConfig config = new HikariConfig();
+      config.setJdbcUrl(url);
+      config.setUsername(username);
+      config.setPassword(password);
+      config.setMaximumPoolSize(poolSize);
+      config.setPoolName("task-shard-" + shards.size());
+      HikariDataSource dataSource = new HikariDataSource(config);
+      Flyway.configure().dataSource(dataSource).load().migrate();
+      shards.add(new Shard(shards.size(), dataSource));
+    }
+    this.scatter =
+        Executors.newFixedThreadPool(
+            shards.size(),
+            task -> {
+              Thread thread = new Thread(task, "task-shard-scatter");
+              thread.setDaemon(true);
+              return thread;
+            });
+    log.info("Sharded task store ready. shards={}", shards.size());
+  }
+
+  /**
+   * The shard holding tasks created on the given date.
+   */
+  int shardFor(LocalDate createdDate) {
+    // Multiplicative hashing spreads consecutive days instead of striping them in order.
+    long hash = createdDate.toEpochDay() * 0x9E3779B97F4A7C15L;
+    return (int) Math.floorMod(hash ^ (hash >>> 32), (long) shards.size());
+  }
+
+  static int shardOf(long id) {
+    return (int) (id >>> SEQUENCE_BITS);
+  }
+
+  @Override
+  public TaskEntity insert(TaskEntity task) {
+    Shard shard = shards.get(shardFor(task.getCreatedDate()));
+    TaskEntity stored = copy(task);
+    stored.setId(((long) shard.index << SEQUENCE_BITS) | shard.nextLocalId());
+    stored.setVersion(0L);
+    try {
+      shard.jdbc.update(
+          "insert into tasks (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+          stored.getId(),
+          stored.getTitle(),
+          stored.getDescription(),
+          stored.getPriority().name(),
+          stored.getStatus().name(),
+          timestamp(stored.getCreatedAt()),
+          timestamp(stored.getCompletedAt()),
+          stored.getCreatedDate(),
+          timestamp(stored.getUpdatedAt()),
+          stored.getVersion());
+    } catch (DuplicateKeyException ex) {
+      // Ids are unique by construction, so the only key that can clash is (title, created_date).
+      throw new DuplicateTaskException(stored.getTitle(), stored.getCreatedDate());
+    }
+    return stored;
+  }
+
+  @Override
+  public TaskEntity update(TaskEntity task) {
+    Shard shard = shardOrNull(task.getId());
+    int updated;
+    try {
+      updated =
+          shard == null
+              ? 0
+              : shard.jdbc.update(
+                  "update tasks set title = ?, description = ?, priority = ?, status = ?,"
+                      + " completed_at = ?, updated_at = ?, version = version + 1"
+                      + " where id = ? and version = ?",
+                  task.getTitle(),
+                  task.getDescription(),
+                  task.getPriority().name(),
+                  task.getStatus().name(),
+                  timestamp(task.getCompletedAt()),
+                  timestamp(task.getUpdatedAt()),
+                  task.getId(),
+                  task.getVersion());
+    } catch (DuplicateKeyException ex) {
+      throw new DuplicateTaskException(task.getTitle(), task.getCreatedDate());
+    }
+    if (updated == 0) {
+      throw new OptimisticLockingFailureException(
+          "Task " + task.getId() + " was changed or deleted concurrently");
+    }
+    TaskEntity stored = copy(task);
+    stored.setVersion(task.getVersion() + 1);
+    return stored;
+  }
+
+  @Override
+  public Optional<TaskEntity> delete(long id) {
+    Shard shard = shardOrNull(id);
+    if (shard == null) {
+      return Optional.empty();
+    }
+    return shard.transactions.execute(
+        status -> {
+          List<TaskEntity> rows =
+              shard.jdbc.query(
+                  "select " + COLUMNS + " from tasks where id = ? for update", TASK_ROW, id);
+          rows.forEach(row -> shard.jdbc.update("delete from tasks where id = ?", id));
+          return rows.stream().findFirst();
+        });
+  }
+
+  @Override
+  public Optional<TaskEntity> findById(long id) {
+    Shard shard = shardOrNull(id);
+    if (shard == null) {
+      return Optional.empty();
+    }
+    return shard.jdbc
+        .query("select " + COLUMNS + " from tasks where id = ?", TASK_ROW, id)
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public List<TaskEntity> findAfterId(long afterId, int limit) {
+    return merge(
+        scatter(
+            shard ->
+                shard.jdbc.query(
+                    "select " + COLUMNS + " from tasks where id > ? order by id limit ?",
+                    TASK_ROW,
+                    afterId,
+                    limit)),
+        BY_ID,
+        limit);
+  }
+
+  @Override
+  public List<TaskEntity> findByStatus(Status status) {
+    List<TaskEntity> result = new ArrayList<>();
+    for (Priority priority : Priority.values()) {
+      result.addAll(findByStatusAndPriority(status, priority, Integer.MAX_VALUE));
+    }
+    return result;
+  }
+
+  @Override
+  public List<TaskEntity> findByStatusAndPriority(Status status, Priority priority, int limit) {
+    return merge(
+        scatter(
+            shard ->
+                shard.jdbc.query(
+                    "select "
+                        + COLUMNS
+                        + " from tasks where status = ? and priority = ?"
+                        + " order by created_at, id limit ?",
+                    TASK_ROW,
+                    status.name(),
+                    priority.name(),
+                    limit)),
+        OLDEST_FIRST,
+        limit);
+  }
+
+  @Override
+  public void destroy() {
+    scatter.shutdownNow();
+    shards.forEach(shard -> shard.dataSource.close());
+  }
+
+  private Shard shardOrNull(long id) {
+    int index = shardOf(id);
+    return index < shards.size() ? shards.get(index) : null;
+  }
+
+  /**
+   * Runs the query on every shard in parallel and returns the per-shard results.
+   */
+  private List<List<TaskEntity>> scatter(Function<Shard, List<TaskEntity>> query) {
+    List<CompletableFuture<List<TaskEntity>>> futures =
+        shards.stream()
+            .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), scatter))
+            .toList();
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  /**
+   * Merges lists that are each sorted by {@code order} into the first {@code limit} elements of
+   * their sorted union, with a heap holding one cursor per list.
+   */
+  static <T> List<T> merge(List<List<T>> sorted, Comparator<T> order, int limit) {
+    record Cursor<E>(List<E> list, int position) {
+      E head() {
+        return list.get(position);
+      }
+    }
+    Comparator<Cursor<T>> byHead = (a, b) -> order.compare(a.head(), b.head());
+    PriorityQueue<Cursor<T>> heap = new PriorityQueue<>(Math.max(1, sorted.size()), byHead);
+    for (List<T> list : sorted) {
+      if (!list.isEmpty()) {
+        heap.add(new Cursor<>(list, 0));
+      }
+    }
+    List<T> merged = new ArrayList<>();
+    while (!heap.isEmpty() && merged.size() < limit) {
+      Cursor<T> cursor = heap.poll();
+      merged.add(cursor.head());
+      if (cursor.position() + 1 < cursor.list().size()) {
+        heap.add(new Cursor<>(cursor.list(), cursor.position() + 1));
+      }
+    }
+    return merged;
+  }
+
+  private static OffsetDateTime timestamp(Instant instant) {
+    return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
+  }
+
+  private static Instant instant(ResultSet rs, String column) throws SQLException {
+    OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+    return value != null ? value.toInstant() : null;
+  }
+
+  private static TaskEntity mapTask(ResultSet rs, int rowNum) throws SQLException {
+    TaskEntity task = new TaskEntity();
+    task.setId(rs.getLong("id"));
+    task.setTitle(rs.getString("title"));
+    task.setDescription(rs.getString("description"));
+    task.setPriority(Priority.valueOf(rs.getString("priority")));
+    task.setStatus(Status.valueOf(rs.getString("status")));
+    task.setCreatedAt(instant(rs, "created_at"));
+    task.setCompletedAt(instant(rs, "completed_at"));
+    task.setCreatedDate(rs.getObject("created_date", LocalDate.class));
+    task.setUpdatedAt(instant(rs, "updated_at"));
+    task.setVersion(rs.getLong("version"));
+    return task;
+  }
+
+  private static TaskEntity copy(TaskEntity task) {
+    TaskEntity copy = new TaskEntity();
+    copy.setId(task.getId());
+    copy.setTitle(task.getTitle());
+    copy.setDescription(task.getDescription());
+    copy.setPriority(task.getPriority());
+    copy.setStatus(task.getStatus());
+    copy.setCreatedAt(task.getCreatedAt());
+    copy.setCompletedAt(task.getCompletedAt());
+    copy.setCreatedDate(task.getCreatedDate());
+    copy.setUpdatedAt(task.getUpdatedAt());
+    copy.setVersion(task.getVersion());
+    return copy;
+  }
+}
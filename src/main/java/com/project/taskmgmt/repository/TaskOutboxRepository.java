@@ -0,0 +1,29 @@
+package com.project.taskmgmt.repository;
+
+import com.project.taskmgmt.entity.TaskOutboxEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TaskOutboxRepository extends JpaRepository<TaskOutboxEntity, Long> {
+
+  /**
+   * Oldest unsent events first, so events of one task are relayed in the order they were written.
+   */
+  List<TaskOutboxEntity> findBySentAtIsNullOrderByIdAsc(Pageable pageable);
+
+  List<TaskOutboxEntity> findByTaskIdOrderByIdAsc(Long taskId);
+
+  @Modifying
+  @Query("update TaskOutboxEntity e set e.sentAt = :sentAt where e.id in :ids")
+  int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") Instant sentAt);
+
+  @Modifying
+  @Query("delete from TaskOutboxEntity e where e.sentAt < :sentBefore")
+  int deleteSentBefore(@Param("sentBefore") Instant sentBefore);
+}
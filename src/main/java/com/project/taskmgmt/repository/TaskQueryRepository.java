@@ -0,0 +1,41 @@
+package com.project.taskmgmt.repository;
+
+import com.project.taskmgmt.dto.TaskQuery;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Filtered task queries that read only the requested columns.
+ */
+public interface TaskQueryRepository {
+
+  /**
+   * Task fields that can be projected.
+   */
+  Set<String> PROJECTABLE_FIELDS =
+      Set.of(
+          "id",
+          "title",
+          "description",
+          "priority",
+          "status",
+          "createdAt",
+          "completedAt",
+          "updatedAt",
+          "version");
+
+  /**
+   * Task fields that can be sorted on; {@code priority} sorts LOW, MEDIUM, HIGH, not by name.
+   */
+  Set<String> SORTABLE_FIELDS =
+      Set.of("id", "title", "priority", "status", "createdAt", "completedAt", "updatedAt");
+
+  /**
+   * Returns the matching tasks as field-to-value maps in the order of {@code fields}, sorted by
+   * {@code sort} and then by id.
+   */
+  List<Map<String, Object>> findProjected(
+      TaskQuery query, Long afterId, List<String> fields, Sort sort, int offset, int limit);
+}
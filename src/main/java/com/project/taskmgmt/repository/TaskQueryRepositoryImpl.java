@@ -0,0 +1,124 @@
+package com.project.taskmgmt.repository;
+
+import com.project.taskmgmt.dto.TaskQuery;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.TaskEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Criteria implementation of {@link TaskQueryRepository}. Only the requested columns are selected
+ * into tuples, so large columns such as {@code description} are not read unless asked for and no
+ * entities are loaded into the persistence context.
+ */
+class TaskQueryRepositoryImpl implements TaskQueryRepository {
+  private final EntityManager entityManager;
+
+  TaskQueryRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public List<Map<String, Object>> findProjected(
+      TaskQuery query, Long afterId, List<String> fields, Sort sort, int offset, int limit) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+    Root<TaskEntity> task = criteria.from(TaskEntity.class);
+
+    List<Selection<?>> selections = new ArrayList<>(fields.size());
+    for (String field : fields) {
+      selections.add(task.get(field).alias(field));
+    }
+    criteria.multiselect(selections);
+    criteria.where(filters(cb, task, query, afterId).toArray(Predicate[]::new));
+    criteria.orderBy(orders(cb, task, sort));
+
+    List<Tuple> rows =
+        entityManager
+            .createQuery(criteria)
+            .setFirstResult(offset)
+            .setMaxResults(limit)
+            .getResultList();
+    List<Map<String, Object>> items = new ArrayList<>(rows.size());
+    for (Tuple row : rows) {
+      Map<String, Object> item = new LinkedHashMap<>();
+      for (String field : fields) {
+        item.put(field, row.get(field));
+      }
+      items.add(item);
+    }
+    return items;
+  }
+
+  private List<Predicate> filters(
+      CriteriaBuilder cb, Root<TaskEntity> task, TaskQuery query, Long afterId) {
+    List<Predicate> predicates = new ArrayList<>();
+    if (afterId != null) {
+      predicates.add(cb.greaterThan(task.<Long>get("id"), afterId));
+    }
+    if (query.getStatus() != null && !query.getStatus().isEmpty()) {
+      predicates.add(task.get("status").in(query.getStatus()));
+    }
+    if (query.getPriority() != null && !query.getPriority().isEmpty()) {
+      predicates.add(task.get("priority").in(query.getPriority()));
+    }
+    Expression<Instant> createdAt = task.get("createdAt");
+    if (query.getCreatedFrom() != null) {
+      predicates.add(cb.greaterThanOrEqualTo(createdAt, query.getCreatedFrom()));
+    }
+    if (query.getCreatedTo() != null) {
+      predicates.add(cb.lessThan(createdAt, query.getCreatedTo()));
+    }
+    Expression<Instant> completedAt = task.get("completedAt");
+    if (query.getCompletedFrom() != null) {
+      predicates.add(cb.greaterThanOrEqualTo(completedAt, query.getCompletedFrom()));
+    }
+    if (query.getCompletedTo() != null) {
+      predicates.add(cb.lessThan(completedAt, query.getCompletedTo()));
+    }
+    return predicates;
+  }
+
+  private List<Order> orders(CriteriaBuilder cb, Root<TaskEntity> task, Sort sort) {
+    List<Order> orders = new ArrayList<>();
+    boolean byId = false;
+    for (Sort.Order order : sort) {
+      Expression<?> key =
+          "priority".equals(order.getProperty())
+              ? priorityRank(cb, task)
+              : task.get(order.getProperty());
+      orders.add(order.isAscending() ? cb.asc(key) : cb.desc(key));
+      byId |= "id".equals(order.getProperty());
+    }
+    if (!byId) {
+      // Ties are broken by id so offset pages are stable.
+      orders.add(cb.asc(task.get("id")));
+    }
+    return orders;
+  }
+
+  /**
+   * Priority as its declaration rank, since the column stores names that sort alphabetically.
+   */
+  private Expression<Integer> priorityRank(CriteriaBuilder cb, Root<TaskEntity> task) {
+    CriteriaBuilder.SimpleCase<Priority, Integer> rank =
+        cb.selectCase(task.<Priority>get("priority"));
+    for (Priority priority : Priority.values()) {
+      rank = rank.when(priority, priority.ordinal());
+    }
+    return rank.otherwise(Priority.values().length);
+  }
+}
@@ -1,26 +1,138 @@
 package com.project.taskmgmt.repository;
 
+import com.project.taskmgmt.entity.Priority;
 import com.project.taskmgmt.entity.Status;
 import com.project.taskmgmt.entity.TaskEntity;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
+public interface TaskRepository extends JpaRepository<TaskEntity, Long>, TaskQueryRepository {
 
-/**
- * Checks if another task (excluding the current one) exists
- * with the same title on the given day.
- * Used when updating a task.
-*/
-  boolean existsByTitleAndCreatedDate(String title, LocalDate createdDate);
+  List<TaskEntity> findByStatus(Status status);
 
-/**
- * Checks if another task (excluding the current one) exists
- * with the same title on the given day.
- * Used when updating a task.
- */
-  boolean existsByTitleAndCreatedDateAndIdNot(String title, LocalDate createdDate, Long id);
+  long countByStatus(Status status);
 
-  List<TaskEntity> findByStatus(Status status);
+  /**
+   * Task counts and summed completion times for one status, priority and completion day.
+   * {@code completedDate} and {@code completionSeconds} are null for tasks that are not completed.
+   */
+  interface TaskAggregate {
+    Status getStatus();
+
+    Priority getPriority();
+
+    LocalDate getCompletedDate();
+
+    long getTasks();
+
+    Number getCompletionSeconds();
+  }
+
+  /**
+   * Aggregates every task in one pass, grouped by status, priority and completion day (UTC).
+   */
+  @Query(
+      "select t.status as status, t.priority as priority,"
+          + " cast(t.completedAt as LocalDate) as completedDate, count(t) as tasks,"
+          + " sum((t.completedAt - t.createdAt) by second) as completionSeconds"
+          + " from TaskEntity t"
+          + " group by t.status, t.priority, cast(t.completedAt as LocalDate)")
+  List<TaskAggregate> aggregateAll();
+
+  /**
+   * Titles from the given set that are already taken on the given day.
+   * Used to check a whole batch of creates in one query.
+   */
+  @Query(
+      "select t.title from TaskEntity t"
+          + " where t.createdDate = :createdDate and t.title in :titles")
+  List<String> findTakenTitles(
+      @Param("createdDate") LocalDate createdDate, @Param("titles") Collection<String> titles);
+
+  /**
+   * Title keys of every task whose title is in the given set, on any day.
+   * Used to check a whole batch of renames in one query.
+   */
+  @Query(
+      "select t.id as id, t.title as title, t.createdDate as createdDate"
+          + " from TaskEntity t where t.title in :titles")
+  List<TaskTitleView> findTitleKeys(@Param("titles") Collection<String> titles);
+
+  /**
+   * Oldest-first tasks of one status and priority, limited by {@code pageable}.
+   * Backed by the (status, priority, created_at) index, so this is an ordered range scan.
+   */
+  List<TaskEntity> findByStatusAndPriorityOrderByCreatedAtAscIdAsc(
+      Status status, Priority priority, Pageable pageable);
+
+  /**
+   * Keyset page: tasks with an id greater than the cursor, in id order.
+   * Only the page size from {@code pageable} is used; no count query is issued.
+   */
+  List<TaskEntity> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+  /**
+   * Tasks in the given status completed before the cutoff, oldest completion first.
+   */
+  List<TaskEntity> findByStatusAndCompletedAtBeforeOrderByCompletedAtAsc(
+      Status status, Instant cutoff, Pageable pageable);
+
+  /**
+   * Keyset page of tasks modified after the (updatedAt, id) cursor, in modification order.
+   * Backed by the (updated_at, id) index.
+   */
+  @Query(
+      "select t from TaskEntity t"
+          + " where (t.updatedAt > :since or (t.updatedAt = :since and t.id > :afterId))"
+          + " and t.updatedAt < :until"
+          + " order by t.updatedAt, t.id")
+  List<TaskEntity> findChangedAfter(
+      @Param("since") Instant since,
+      @Param("afterId") long afterId,
+      @Param("until") Instant until,
+      Pageable pageable);
+
+  /**
+   * Forward-only cursor over every task in id order.
+   * Must be consumed inside a transaction and closed by the caller.
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select t from TaskEntity t order by t.id")
+  Stream<TaskEntity> streamAllOrderedById();
+
+  /**
+   * Searchable text of a task.
+   */
+  interface TaskText {
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Long getVersion();
+  }
+
+  /**
+   * Forward-only cursor over the id, title and description of every task in id order.
+   * Must be consumed inside a transaction and closed by the caller.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query(
+      "select t.id as id, t.title as title, t.description as description,"
+          + " t.version as version from TaskEntity t order by t.id")
+  Stream<TaskText> streamTextOrderedById();
 }
@@ -0,0 +1,51 @@
+package com.project.taskmgmt.repository;
+
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Task storage without JPA, used by the edge and sharded profiles in place of
+ * {@link TaskRepository}.
+ * Entities passed in and handed out are detached copies; changing them does not change the store.
+ */
+public interface TaskStore {
+
+  /**
+   * Stores a new task, assigning its id and initial version.
+   *
+   * @throws com.project.taskmgmt.exception.DuplicateTaskException if the title is already used on
+   *     the task's created date
+   */
+  TaskEntity insert(TaskEntity task);
+
+  /**
+   * Replaces a task if it is still at the version it was read with, incrementing the version.
+   *
+   * @throws org.springframework.dao.OptimisticLockingFailureException if the task changed or was
+   *     deleted in the meantime
+   * @throws com.project.taskmgmt.exception.DuplicateTaskException if a new title is already used
+   */
+  TaskEntity update(TaskEntity task);
+
+  /**
+   * Removes a task, returning it as it was, or empty if it does not exist.
+   */
+  Optional<TaskEntity> delete(long id);
+
+  Optional<TaskEntity> findById(long id);
+
+  /**
+   * Up to {@code limit} tasks with an id greater than {@code afterId}, in id order.
+   */
+  List<TaskEntity> findAfterId(long afterId, int limit);
+
+  List<TaskEntity> findByStatus(Status status);
+
+  /**
+   * Up to {@code limit} tasks with the given status and priority, oldest creation time first.
+   */
+  List<TaskEntity> findByStatusAndPriority(Status status, Priority priority, int limit);
+}
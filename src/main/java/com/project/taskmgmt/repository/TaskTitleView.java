@@ -0,0 +1,14 @@
+package com.project.taskmgmt.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the columns that make up the daily-unique title key.
+ */
+public interface TaskTitleView {
+  Long getId();
+
+  String getTitle();
+
+  LocalDate getCreatedDate();
+}
@@ -0,0 +1,32 @@
+package com.project.taskmgmt.repository;
+
+import com.project.taskmgmt.entity.TaskTombstoneEntity;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstoneEntity, Long> {
+
+  /**
+   * Keyset page of deletions after the (deletedAt, taskId) cursor, matching
+   * {@link TaskRepository#findChangedAfter}.
+   */
+  @Query(
+      "select t from TaskTombstoneEntity t"
+          + " where (t.deletedAt > :since or (t.deletedAt = :since and t.taskId > :afterId))"
+          + " and t.deletedAt < :until"
+          + " order by t.deletedAt, t.taskId")
+  List<TaskTombstoneEntity> findDeletedAfter(
+      @Param("since") Instant since,
+      @Param("afterId") long afterId,
+      @Param("until") Instant until,
+      Pageable pageable);
+
+  @Modifying
+  @Query("delete from TaskTombstoneEntity t where t.deletedAt < :cutoff")
+  int deleteDeletedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,426 @@
+package com.project.taskmgmt.repository;
+
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Append-only log of task writes in a memory-mapped file, replayed by {@link InMemoryTaskStore}
+ * at startup. Each record is a length prefix and a CRC-32C of its body, followed by a PUT (the
+ * full task) or a DELETE (the id); a zero length marks the end. Appends land in the page cache, so
+ * they survive a process crash; with {@code sync} enabled each append is also forced to disk.
+ * After a power loss the log is cut at the first record whose length or checksum does not match,
+ * which drops only a torn tail. Disabled when no path is configured.
+ *
+ * <p>Once the log outgrows {@code compact-mb} the store compacts it: appends move to a fresh log
+ * while the live tasks are written to a snapshot file, after which the old log is deleted. Replay
+ * reads the snapshot, then the current log; a log left over from an interrupted compaction is
+ * folded back into the current one when the file is opened.
+ */
+@Component
+@Profile("edge")
+public class TaskWriteAheadLog implements DisposableBean {
+  private static final Logger log = LoggerFactory.getLogger(TaskWriteAheadLog.class);
+
+  private static final byte PUT = 1;
+  private static final byte DELETE = 2;
+  private static final byte LAST_ID = 3;
+  private static final int HEADER_BYTES = 2 * Integer.BYTES;
+  // A single mapping is addressed by int positions.
+  private static final long MAX_LOG_BYTES = Integer.MAX_VALUE;
+
+  private final Path file;
+  private final Path previousFile;
+  private final Path snapshotFile;
+  private final long growBy;
+  private final boolean sync;
+  private final long compactAfter;
+  private final AtomicBoolean compacting = new AtomicBoolean();
+  private FileChannel channel;
+  private MappedByteBuffer buffer;
+  private long compactedLength;
+
+  public TaskWriteAheadLog(
+      @Value("${tasks.edge.wal.path:}") String path,
+      @Value("${tasks.edge.wal.region-mb:64}") int regionMb,
+      @Value("${tasks.edge.wal.sync:false}") boolean sync,
+      @Value("${tasks.edge.wal.compact-mb:1024}") int compactMb) {
+    this.growBy = regionMb * 1024L * 1024L;
+    this.sync = sync;
+    this.compactAfter = Math.min(compactMb * 1024L * 1024L, MAX_LOG_BYTES / 2);
+    if (path.isBlank()) {
+      this.file = null;
+      this.previousFile = null;
+      this.snapshotFile = null;
+      return;
+    }
+    this.file = Path.of(path);
+    this.previousFile = sibling(".previous");
+    this.snapshotFile = sibling(".snapshot");
+    try {
+      if (file.getParent() != null) {
+        Files.createDirectories(file.getParent());
+      }
+      Files.deleteIfExists(sibling(".snapshot.partial"));
+      openLog();
+      if (Files.exists(previousFile)) {
+        // A compaction was interrupted: fold the current log back into the previous one.
+        appendRecordsTo(previousFile);
+        channel.close();
+        Files.move(
+            previousFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        openLog();
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Cannot open task write-ahead log " + path, ex);
+    }
+    log.info("Task write-ahead log opened. path={}, bytes={}", path, buffer.position());
+  }
+
+  public boolean isEnabled() {
+    return file != null;
+  }
+
+  /**
+   * Feeds every logged write, oldest first, to the given callbacks. {@code onLastId} receives the
+   * highest id ever assigned when a snapshot recorded one.
+   */
+  public void replay(Consumer<TaskEntity> onPut, LongConsumer onDelete, LongConsumer onLastId) {
+    if (!isEnabled()) {
+      return;
+    }
+    try {
+      if (Files.exists(snapshotFile)) {
+        try (FileChannel snapshot = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+          ByteBuffer records = snapshot.map(FileChannel.MapMode.READ_ONLY, 0, snapshot.size());
+          replay(records.limit(endOfLog(records)), onPut, onDelete, onLastId);
+        }
+      }
+      replay(buffer.duplicate().position(0).limit(buffer.position()), onPut, onDelete, onLastId);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Corrupt task write-ahead log", ex);
+    }
+  }
+
+  public void put(TaskEntity task) {
+    if (isEnabled()) {
+      append(encode(PUT, out -> writeTask(out, task)));
+    }
+  }
+
+  public void delete(long id) {
+    if (isEnabled()) {
+      append(encode(DELETE, out -> out.writeLong(id)));
+    }
+  }
+
+  /**
+   * Whether the log grew past the compaction threshold, or past twice its size after the last
+   * compaction when the live tasks alone exceed the threshold.
+   */
+  public synchronized boolean needsCompaction() {
+    return isEnabled()
+        && !compacting.get()
+        && buffer.position() > Math.max(compactAfter, 2 * compactedLength);
+  }
+
+  /**
+   * Replaces the logged history with a snapshot of the live tasks. Appends continue on a fresh
+   * log meanwhile, so {@code liveTasks} may see writes that are also in the fresh log; replaying
+   * them again after the snapshot is harmless. {@code liveTasks} must hand each task to the sink
+   * while no write to that task is in progress. Returns without waiting if a compaction is
+   * already running.
+   */
+  public void compact(long lastId, Consumer<Consumer<TaskEntity>> liveTasks) {
+    if (!isEnabled() || !compacting.compareAndSet(false, true)) {
+      return;
+    }
+    Path partial = sibling(".snapshot.partial");
+    try {
+      long before = rotate();
+      long tasks;
+      try (FileChannel out =
+              FileChannel.open(partial, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+          OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(out), 1 << 16)) {
+        writeRecord(stream, encode(LAST_ID, data -> data.writeLong(lastId)));
+        long[] written = new long[1];
+        liveTasks.accept(
+            task -> {
+              try {
+                writeRecord(stream, encode(PUT, data -> writeTask(data, task)));
+                written[0]++;
+              } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+              }
+            });
+        stream.flush();
+        out.force(true);
+        tasks = written[0];
+      }
+      Files.move(
+          partial, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      Files.delete(previousFile);
+      synchronized (this) {
+        compactedLength = buffer.position();
+      }
+      log.info("Task write-ahead log compacted. tasks={}, logBytesBefore={}", tasks, before);
+    } catch (IOException | RuntimeException ex) {
+      // The previous log stays in place and is replayed, or folded back in, on the next start.
+      log.error("Task write-ahead log compaction failed", ex);
+      try {
+        Files.deleteIfExists(partial);
+      } catch (IOException cleanup) {
+        ex.addSuppressed(cleanup);
+      }
+    } finally {
+      compacting.set(false);
+    }
+  }
+
+  @Override
+  public synchronized void destroy() throws IOException {
+    if (isEnabled()) {
+      buffer.force();
+      channel.close();
+    }
+  }
+
+  /**
+   * Bytes of records in the current log.
+   */
+  synchronized long length() {
+    return isEnabled() ? buffer.position() : 0;
+  }
+
+  private synchronized void append(byte[] body) {
+    int needed = HEADER_BYTES + body.length + Integer.BYTES;
+    if (buffer.remaining() < needed) {
+      long capacity = Math.min(buffer.capacity() + Math.max(growBy, needed), MAX_LOG_BYTES);
+      if (capacity - buffer.position() < needed) {
+        throw new IllegalStateException("Task write-ahead log is full and not yet compacted");
+      }
+      int position = buffer.position();
+      buffer = map(capacity);
+      buffer.position(position);
+    }
+    int start = buffer.position();
+    buffer.putInt(body.length).putInt(checksum(body)).put(body);
+    if (sync) {
+      buffer.force(start, buffer.position() - start);
+    }
+  }
+
+  /**
+   * Moves the current log aside as the previous log and starts an empty one; returns the length
+   * of the log moved aside. A previous log still there from a failed compaction receives the
+   * current records instead, so no history is dropped.
+   */
+  private synchronized long rotate() throws IOException {
+    long length = buffer.position();
+    buffer.force();
+    if (Files.exists(previousFile)) {
+      appendRecordsTo(previousFile);
+      channel.close();
+      Files.delete(file);
+    } else {
+      channel.close();
+      Files.move(file, previousFile, StandardCopyOption.ATOMIC_MOVE);
+    }
+    openLog();
+    return length;
+  }
+
+  private void openLog() throws IOException {
+    channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    buffer = map(Math.min(Math.max(channel.size(), growBy), MAX_LOG_BYTES));
+    int end = endOfLog(buffer);
+    if (end + Integer.BYTES <= buffer.capacity() && buffer.getInt(end) != 0) {
+      log.warn("Discarding torn tail of task write-ahead log. path={}, validBytes={}", file, end);
+      clear(buffer, end);
+    }
+    buffer.position(end);
+  }
+
+  /**
+   * Appends the valid records of the current log to {@code target}, cutting any torn tail of
+   * {@code target} first so the appended records stay reachable.
+   */
+  private void appendRecordsTo(Path target) throws IOException {
+    try (FileChannel out =
+        FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer existing = out.map(FileChannel.MapMode.READ_ONLY, 0, out.size());
+      long end = endOfLog(existing);
+      out.truncate(end);
+      out.position(end);
+      ByteBuffer records = buffer.duplicate().position(0).limit(endOfLog(buffer));
+      while (records.hasRemaining()) {
+        out.write(records);
+      }
+      out.force(true);
+    }
+  }
+
+  private MappedByteBuffer map(long size) {
+    try {
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Cannot map task write-ahead log", ex);
+    }
+  }
+
+  private Path sibling(String suffix) {
+    return file.resolveSibling(file.getFileName() + suffix);
+  }
+
+  private static void replay(
+      ByteBuffer records, Consumer<TaskEntity> onPut, LongConsumer onDelete, LongConsumer onLastId)
+      throws IOException {
+    while (records.hasRemaining()) {
+      byte[] body = new byte[records.getInt()];
+      records.getInt();
+      records.get(body);
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+      switch (in.readByte()) {
+        case PUT -> onPut.accept(readTask(in));
+        case DELETE -> onDelete.accept(in.readLong());
+        case LAST_ID -> onLastId.accept(in.readLong());
+        default -> throw new IOException("Unknown task write-ahead log record");
+      }
+    }
+  }
+
+  /**
+   * Position after the last complete record whose checksum matches.
+   */
+  private static int endOfLog(ByteBuffer records) {
+    int position = 0;
+    while (records.limit() - position >= HEADER_BYTES) {
+      int length = records.getInt(position);
+      if (length <= 0 || length > records.limit() - position - HEADER_BYTES) {
+        break;
+      }
+      ByteBuffer body = records.duplicate().position(position + HEADER_BYTES);
+      body.limit(body.position() + length);
+      CRC32C crc = new CRC32C();
+      crc.update(body);
+      if ((int) crc.getValue() != records.getInt(position + Integer.BYTES)) {
+        break;
+      }
+      position += HEADER_BYTES + length;
+    }
+    return position;
+  }
+
+  private static void clear(ByteBuffer records, int from) {
+    byte[] zeros = new byte[64 * 1024];
+    ByteBuffer tail = records.duplicate().position(from);
+    while (tail.hasRemaining()) {
+      tail.put(zeros, 0, Math.min(zeros.length, tail.remaining()));
+    }
+  }
+
+  private static int checksum(byte[] body) {
+    CRC32C crc = new CRC32C();
+    crc.update(body);
+    return (int) crc.getValue();
+  }
+
+  private static void writeRecord(OutputStream out, byte[] body) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(body.length);
+    data.writeInt(checksum(body));
+    data.write(body);
+  }
+
+  private interface Writer {
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  private static byte[] encode(byte type, Writer writer) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(type);
+      writer.write(out);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static void writeTask(DataOutputStream out, TaskEntity task) throws IOException {
+    out.writeLong(task.getId());
+    out.writeLong(task.getVersion());
+    out.writeUTF(task.getTitle());
+    writeNullableUtf(out, task.getDescription());
+    out.writeByte(task.getPriority().ordinal());
+    out.writeByte(task.getStatus().ordinal());
+    writeInstant(out, task.getCreatedAt());
+    out.writeBoolean(task.getCompletedAt() != null);
+    if (task.getCompletedAt() != null) {
+      writeInstant(out, task.getCompletedAt());
+    }
+    out.writeLong(task.getCreatedDate().toEpochDay());
+    writeInstant(out, task.getUpdatedAt());
+  }
+
+  private static TaskEntity readTask(DataInputStream in) throws IOException {
+    TaskEntity task = new TaskEntity();
+    task.setId(in.readLong());
+    task.setVersion(in.readLong());
+    task.setTitle(in.readUTF());
+    task.setDescription(in.readBoolean() ? in.readUTF() : null);
+    task.setPriority(Priority.values()[in.readByte()]);
+    task.setStatus(Status.values()[in.readByte()]);
+    task.setCreatedAt(readInstant(in));
+    task.setCompletedAt(in.readBoolean() ? readInstant(in) : null);
+    task.setCreatedDate(LocalDate.ofEpochDay(in.readLong()));
+    task.setUpdatedAt(readInstant(in));
+    return task;
+  }
+
+  private static void writeNullableUtf(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+    out.writeLong(instant.getEpochSecond());
+    out.writeInt(instant.getNano());
+  }
+
+  private static Instant readInstant(DataInputStream in) throws IOException {
+    return Instant.ofEpochSecond(in.readLong(), in.readInt());
+  }
+}
@@ -0,0 +1,415 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskPage;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.events.TaskChangedEvent;
+import com.project.taskmgmt.exception.DuplicateTaskException;
+import com.project.taskmgmt.mapper.TaskMapper;
+import io.r2dbc.spi.Parameter;
+import io.r2dbc.spi.Parameters;
+import io.r2dbc.spi.Row;
+import jakarta.validation.ValidationException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link TaskService} over R2DBC, active with the reactive profile.
+ * It applies the same {@link TaskRules}, writes outbox rows in the same transaction as the task
+ * change and publishes {@link TaskChangedEvent} after commit, so the urgency index, the cache
+ * and the Kafka relay behave exactly as with the blocking service.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveTaskService {
+  private static final Logger log = LoggerFactory.getLogger(ReactiveTaskService.class);
+
+  // Enum columns are read as text whatever column type the schema generator picked for them.
+  private static final String TASK_COLUMNS =
+      "id, title, description, cast(priority as varchar) as priority,"
+          + " cast(status as varchar) as status, created_at, completed_at, created_date,"
+          + " updated_at, version";
+
+  private record Applied(TaskResponse response, TaskChangedEvent event) {}
+
+  private final DatabaseClient client;
+  private final TransactionalOperator transactionalOperator;
+  private final TaskMapper mapper;
+  private final TaskUrgencyIndex urgencyIndex;
+  private final TaskMetrics metrics;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int defaultPageSize;
+  private final int maxPageSize;
+  private final boolean useUrgencyIndex;
+
+  public ReactiveTaskService(
+      DatabaseClient client,
+      TransactionalOperator transactionalOperator,
+      TaskMapper mapper,
+      TaskUrgencyIndex urgencyIndex,
+      TaskMetrics metrics,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${tasks.pagination.default-size:100}") int defaultPageSize,
+      @Value("${tasks.pagination.max-size:1000}") int maxPageSize,
+      @Value("${tasks.urgent.use-index:true}") boolean useUrgencyIndex) {
+    this.client = client;
+    this.transactionalOperator = transactionalOperator;
+    this.mapper = mapper;
+    this.urgencyIndex = urgencyIndex;
+    this.metrics = metrics;
+    this.eventPublisher = eventPublisher;
+    this.defaultPageSize = defaultPageSize;
+    this.maxPageSize = maxPageSize;
+    this.useUrgencyIndex = useUrgencyIndex;
+  }
+
+  /**
+   * Creates a new task; the one-task-per-title-per-day rule is enforced by the unique constraint.
+   */
+  public Mono<TaskResponse> createTask(CreateTaskRequest request) {
+    return Mono.fromCallable(
+            () -> {
+              Instant now = Instant.now();
+              LocalDate createdDate = LocalDate.ofInstant(now, ZoneId.systemDefault());
+              String title = TaskRules.normalizeTitle(request.getTitle());
+              return TaskRules.buildNewTask(request, title, now, createdDate);
+            })
+        .flatMap(
+            entity ->
+                nextTaskId()
+                    .flatMap(
+                        id -> {
+                          entity.setId(id);
+                          return insertTask(entity)
+                              .then(enqueue(id, "CREATED", entity.getCreatedAt()));
+                        })
+                    .onErrorMap(
+                        DataIntegrityViolationException.class,
+                        ex ->
+                            duplicateOrSelf(
+                                ex,
+                                new DuplicateTaskException(
+                                    entity.getTitle(), entity.getCreatedDate())))
+                    .as(transactionalOperator::transactional)
+                    .then(Mono.fromSupplier(() -> mapper.toResponse(entity))))
+        .doOnNext(
+            response -> {
+              log.info(
+                  "Task created successfully. id={}, title='{}'", response.id(), response.title());
+              eventPublisher.publishEvent(new TaskChangedEvent("CREATED", null, response));
+            });
+  }
+
+  public Mono<TaskResponse> getTask(Long id) {
+    return findTask(id)
+        .map(mapper::toResponse)
+        .switchIfEmpty(Mono.error(() -> metrics.notFound(id)));
+  }
+
+  /**
+   * Returns one keyset page of tasks in id order, starting after the given cursor.
+   */
+  public Mono<TaskPage> getTasks(Long afterId, Integer limit) {
+    int pageSize;
+    try {
+      pageSize = resolvePageSize(limit);
+    } catch (ValidationException ex) {
+      return Mono.error(ex);
+    }
+    long cursor = afterId != null ? afterId : 0L;
+    return client
+        .sql("select " + TASK_COLUMNS + " from tasks where id > :cursor order by id limit :limit")
+        .bind("cursor", cursor)
+        .bind("limit", pageSize + 1)
+        .map((row, metadata) -> toEntity(row))
+        .all()
+        .map(mapper::toResponse)
+        .collectList()
+        .map(
+            rows -> {
+              boolean hasMore = rows.size() > pageSize;
+              List<TaskResponse> items = hasMore ? rows.subList(0, pageSize) : rows;
+              Long nextCursor = hasMore ? items.get(items.size() - 1).id() : null;
+              return new TaskPage(items, nextCursor);
+            });
+  }
+
+  /**
+   * Streams every task in id order; rows are pulled from the database as the subscriber requests
+   * them.
+   */
+  public Flux<TaskResponse> streamAllTasks() {
+    return client
+        .sql("select " + TASK_COLUMNS + " from tasks order by id")
+        .map((row, metadata) -> toEntity(row))
+        .all()
+        .map(mapper::toResponse);
+  }
+
+  /**
+   * Returns pending tasks ordered by priority and oldest creation time first.
+   * Without the urgency index, one ordered range scan per priority is issued lazily, so a
+   * satisfied limit or a cancelled subscriber stops the remaining queries.
+   */
+  public Flux<TaskResponse> getUrgentTasks(Integer limit) {
+    if (limit != null && limit < 1) {
+      return Flux.error(new ValidationException("limit must be positive"));
+    }
+    if (useUrgencyIndex && urgencyIndex.isReady()) {
+      return Flux.defer(() -> Flux.fromIterable(urgencyIndex.top(limit)));
+    }
+    Flux<TaskResponse> urgent =
+        Flux.fromIterable(TaskUrgencyComparator.URGENCY_ORDER)
+            .concatMap(this::findPending)
+            .map(mapper::toResponse);
+    return limit != null ? urgent.take(limit) : urgent;
+  }
+
+  /**
+   * Updates a task with the same rules as {@link TaskService#updateTask}.
+   */
+  public Mono<TaskResponse> updateTask(Long id, UpdateTaskRequest request) {
+    return findTask(id)
+        .switchIfEmpty(Mono.error(() -> metrics.notFound(id)))
+        .flatMap(
+            entity -> {
+              TaskResponse previous = mapper.toResponse(entity);
+              Instant now = Instant.now();
+              TaskRules.UpdateResult result = TaskRules.applyUpdates(entity, request, now);
+              if (!result.changed()) {
+                return Mono.just(new Applied(previous, null));
+              }
+              String eventType = result.completedNow() ? "COMPLETED" : "UPDATED";
+              return updateRow(entity)
+                  .then(enqueue(id, eventType, now))
+                  .onErrorMap(
+                      DataIntegrityViolationException.class,
+                      ex ->
+                          duplicateOrSelf(
+                              ex,
+                              new DuplicateTaskException(
+                                  entity.getTitle(), entity.getCreatedDate())))
+                  .then(
+                      Mono.fromSupplier(
+                          () -> {
+                            TaskResponse response = mapper.toResponse(entity);
+                            return new Applied(
+                                response, new TaskChangedEvent(eventType, previous, response));
+                          }));
+            })
+        .as(transactionalOperator::transactional)
+        .doOnNext(
+            applied -> {
+              if (applied.event() != null) {
+                log.info(
+                    "Task updated successfully. id={}, title='{}'",
+                    applied.response().id(),
+                    applied.response().title());
+                eventPublisher.publishEvent(applied.event());
+              }
+            })
+        .map(Applied::response);
+  }
+
+  public Mono<Void> deleteTask(Long id) {
+    return findTask(id)
+        .switchIfEmpty(Mono.error(() -> metrics.notFound(id)))
+        .flatMap(
+            entity -> {
+              Instant now = Instant.now();
+              return client
+                  .sql("delete from tasks where id = :id")
+                  .bind("id", id)
+                  .then()
+                  .then(insertTombstone(id, now))
+                  .then(enqueue(id, "DELETED", now))
+                  .thenReturn(mapper.toResponse(entity));
+            })
+        .as(transactionalOperator::transactional)
+        .doOnNext(
+            previous -> {
+              log.info(
+                  "Task deleted successfully. id={}, title='{}'", previous.id(), previous.title());
+              eventPublisher.publishEvent(new TaskChangedEvent("DELETED", previous, null));
+            })
+        .then();
+  }
+
+  private Mono<TaskEntity> findTask(Long id) {
+    return client
+        .sql("select " + TASK_COLUMNS + " from tasks where id = :id")
+        .bind("id", id)
+        .map((row, metadata) -> toEntity(row))
+        .one();
+  }
+
+  private Flux<TaskEntity> findPending(Priority priority) {
+    return client
+        .sql(
+            "select " + TASK_COLUMNS + " from tasks where status = :status and priority = :priority"
+                + " order by created_at, id")
+        .bind("status", Status.PENDING.name())
+        .bind("priority", priority.name())
+        .map((row, metadata) -> toEntity(row))
+        .all();
+  }
+
+  /**
+   * Takes the next value of the sequence JPA also allocates from. Hibernate treats each value as
+   * the top of a pooled block it fetched itself, so a value taken here is never handed out by JPA.
+   */
+  private Mono<Long> nextTaskId() {
+    return client
+        .sql("select next value for tasks_seq")
+        .map((row, metadata) -> row.get(0, Long.class))
+        .one();
+  }
+
+  private Mono<Void> insertTask(TaskEntity entity) {
+    return client
+        .sql(
+            "insert into tasks (id, title, description, priority, status, created_at, completed_at,"
+                + " created_date, updated_at, version) values (:id, :title, :description,"
+                + " :priority, :status, :createdAt, :completedAt, :createdDate, :updatedAt, 0)")
+        .bind("id", entity.getId())
+        .bind("title", entity.getTitle())
+        .bind("description", nullable(entity.getDescription(), String.class))
+        .bind("priority", entity.getPriority().name())
+        .bind("status", entity.getStatus().name())
+        .bind("createdAt", toOffsetDateTime(entity.getCreatedAt()))
+        .bind(
+            "completedAt",
+            nullable(toOffsetDateTime(entity.getCompletedAt()), OffsetDateTime.class))
+        .bind("createdDate", entity.getCreatedDate())
+        .bind("updatedAt", toOffsetDateTime(entity.getUpdatedAt()))
+        .then()
+        .doOnSuccess(ignored -> entity.setVersion(0L));
+  }
+
+  /**
+   * Writes the changed task if nobody else updated it since it was read, like JPA's
+   * {@code @Version} check.
+   */
+  private Mono<Void> updateRow(TaskEntity entity) {
+    return client
+        .sql(
+            "update tasks set title = :title, description = :description, priority = :priority,"
+                + " status = :status, completed_at = :completedAt, updated_at = :updatedAt,"
+                + " version = version + 1 where id = :id and version = :version")
+        .bind("id", entity.getId())
+        .bind("version", entity.getVersion())
+        .bind("updatedAt", toOffsetDateTime(entity.getUpdatedAt()))
+        .bind("title", entity.getTitle())
+        .bind("description", nullable(entity.getDescription(), String.class))
+        .bind("priority", entity.getPriority().name())
+        .bind("status", entity.getStatus().name())
+        .bind(
+            "completedAt",
+            nullable(toOffsetDateTime(entity.getCompletedAt()), OffsetDateTime.class))
+        .fetch()
+        .rowsUpdated()
+        .flatMap(
+            updated -> {
+              if (updated == 0) {
+                return Mono.error(
+                    new OptimisticLockingFailureException(
+                        "Task " + entity.getId() + " was updated concurrently"));
+              }
+              entity.setVersion(entity.getVersion() + 1);
+              return Mono.empty();
+            });
+  }
+
+  private Mono<Void> insertTombstone(Long taskId, Instant deletedAt) {
+    return client
+        .sql(
+            "insert into task_tombstones (id, task_id, deleted_at) values"
+                + " (next value for task_tombstones_seq, :taskId, :deletedAt)")
+        .bind("taskId", taskId)
+        .bind("deletedAt", toOffsetDateTime(deletedAt))
+        .then();
+  }
+
+  /**
+   * Writes the outbox row picked up by the Kafka relay, in the caller's transaction.
+   */
+  private Mono<Void> enqueue(Long taskId, String eventType, Instant occurredAt) {
+    return client
+        .sql(
+            "insert into task_outbox (id, task_id, event_type, occurred_at, sent_at) values"
+                + " (next value for task_outbox_seq, :taskId, :eventType, :occurredAt, null)")
+        .bind("taskId", taskId)
+        .bind("eventType", eventType)
+        .bind("occurredAt", toOffsetDateTime(occurredAt))
+        .then();
+  }
+
+  private int resolvePageSize(Integer limit) {
+    if (limit == null) {
+      return defaultPageSize;
+    }
+    if (limit < 1) {
+      throw new ValidationException("limit must be positive");
+    }
+    return Math.min(limit, maxPageSize);
+  }
+
+  private Throwable duplicateOrSelf(
+      DataIntegrityViolationException ex, DuplicateTaskException duplicate) {
+    if (!TaskRules.isTitlePerDayViolation(ex)) {
+      return ex;
+    }
+    log.warn("Duplicate task rejected by unique constraint: {}", duplicate.getMessage());
+    return metrics.duplicate(duplicate);
+  }
+
+  private static TaskEntity toEntity(Row row) {
+    TaskEntity task = new TaskEntity();
+    task.setId(row.get("id", Long.class));
+    task.setTitle(row.get("title", String.class));
+    task.setDescription(row.get("description", String.class));
+    task.setPriority(Priority.valueOf(row.get("priority", String.class)));
+    task.setStatus(Status.valueOf(row.get("status", String.class)));
+    task.setCreatedAt(toInstant(row.get("created_at", OffsetDateTime.class)));
+    task.setCompletedAt(toInstant(row.get("completed_at", OffsetDateTime.class)));
+    task.setCreatedDate(row.get("created_date", LocalDate.class));
+    task.setUpdatedAt(toInstant(row.get("updated_at", OffsetDateTime.class)));
+    task.setVersion(row.get("version", Long.class));
+    return task;
+  }
+
+  /**
+   * A bind value that may be null; a null still needs its type for the driver.
+   */
+  private static Parameter nullable(Object value, Class<?> type) {
+    return value != null ? Parameters.in(value) : Parameters.in(type);
+  }
+
+  private static OffsetDateTime toOffsetDateTime(Instant instant) {
+    return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
+  }
+
+  private static Instant toInstant(OffsetDateTime value) {
+    return value != null ? value.toInstant() : null;
+  }
+}
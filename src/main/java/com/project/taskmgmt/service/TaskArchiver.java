@@ -0,0 +1,123 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.entity.TaskTombstoneEntity;
+import com.project.taskmgmt.events.TaskChangedEvent;
+import com.project.taskmgmt.mapper.TaskMapper;
+import com.project.taskmgmt.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves DONE tasks completed longer than the configured age ago from {@code tasks} into
+ * {@code task_archive}, one bounded batch per transaction, so the hot table only holds active work.
+ * Each move is published as an {@code ARCHIVED} change, which drops the task from the in-memory
+ * indexes and the task cache; archived tasks are not sent to Kafka. A tombstone is written too, so
+ * incremental sync reports the task as gone from the active set.
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskArchiver {
+  private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+  static final String ARCHIVED = "ARCHIVED";
+
+  private final TaskRepository repository;
+  private final TaskMapper mapper;
+  private final EntityManager entityManager;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final Duration age;
+  private final int batchSize;
+
+  public TaskArchiver(
+      TaskRepository repository,
+      TaskMapper mapper,
+      EntityManager entityManager,
+      ApplicationEventPublisher eventPublisher,
+      TransactionTemplate transactionTemplate,
+      @Value("${tasks.archive.enabled:true}") boolean enabled,
+      @Value("${tasks.archive.age:P30D}") Duration age,
+      @Value("${tasks.archive.batch-size:500}") int batchSize) {
+    this.repository = repository;
+    this.mapper = mapper;
+    this.entityManager = entityManager;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = transactionTemplate;
+    this.enabled = enabled;
+    this.age = age;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${tasks.archive.interval-ms:600000}")
+  public void scheduledArchive() {
+    if (!enabled) {
+      return;
+    }
+    Instant cutoff = Instant.now().minus(age);
+    int total = 0;
+    int archived;
+    do {
+      try {
+        archived = archiveBatch(cutoff);
+      } catch (OptimisticLockingFailureException ex) {
+        // A task of the batch changed concurrently; the whole batch is retried on the next run.
+        log.info("Archiving deferred after a concurrent update. archived={}", total);
+        return;
+      }
+      total += archived;
+    } while (archived == batchSize);
+    if (total > 0) {
+      log.info("Archived completed tasks. count={}, cutoff={}", total, cutoff);
+    }
+  }
+
+  /**
+   * Archives up to one batch of DONE tasks completed before the cutoff, oldest first.
+   *
+   * @return number of tasks archived
+   */
+  public int archiveBatch(Instant cutoff) {
+    Integer archived =
+        transactionTemplate.execute(
+            status -> {
+              List<TaskEntity> batch =
+                  repository.findByStatusAndCompletedAtBeforeOrderByCompletedAtAsc(
+                      Status.DONE, cutoff, PageRequest.of(0, batchSize));
+              Instant archivedAt = Instant.now();
+              for (TaskEntity task : batch) {
+                // Ids are assigned, so persist directly instead of save()'s merge-by-select.
+                entityManager.persist(mapper.toArchived(task, archivedAt));
+                entityManager.persist(tombstone(task.getId(), archivedAt));
+                eventPublisher.publishEvent(
+                    new TaskChangedEvent(ARCHIVED, mapper.toResponse(task), null));
+              }
+              // Removing managed entities checks @Version, so a task reopened meanwhile aborts
+              // the batch instead of archiving a stale copy.
+              repository.deleteAll(batch);
+              return batch.size();
+            });
+    return archived != null ? archived : 0;
+  }
+
+  private static TaskTombstoneEntity tombstone(Long taskId, Instant archivedAt) {
+    TaskTombstoneEntity tombstone = new TaskTombstoneEntity();
+    tombstone.setTaskId(taskId);
+    tombstone.setDeletedAt(archivedAt);
+    return tombstone;
+  }
+}
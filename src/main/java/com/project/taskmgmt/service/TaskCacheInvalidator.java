@@ -0,0 +1,30 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.events.TaskChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts cached single-task lookups once a change to the task has been committed.
+ */
+@Component
+public class TaskCacheInvalidator {
+  private final CacheManager cacheManager;
+
+  public TaskCacheInvalidator(CacheManager cacheManager) {
+    this.cacheManager = cacheManager;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void onTaskChanged(TaskChangedEvent event) {
+    Cache cache = cacheManager.getCache(TaskService.TASK_CACHE);
+    if (cache != null) {
+      cache.evict(event.taskId());
+    }
+  }
+}
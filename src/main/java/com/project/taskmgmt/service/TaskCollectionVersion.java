@@ -0,0 +1,51 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.events.TaskChangedEvent;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Version of the task collection as a whole, bumped after every committed task change, used to
+ * answer conditional list requests without querying. The version is process-local, which is
+ * sound because the application owns its embedded database.
+ */
+@Component
+public class TaskCollectionVersion {
+  // Keeps ETags from a previous run from matching after a restart resets the counter.
+  private final long epoch = System.currentTimeMillis();
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * Runs after the urgency index and cache have applied the change, so a reader that sees the
+   * new version also sees the new data.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  public void onTaskChanged(TaskChangedEvent event) {
+    version.incrementAndGet();
+  }
+
+  /**
+   * Strong ETag for one representation of the collection; read it before loading the data.
+   */
+  public String etag(Object... representation) {
+    return etagAt(current(), representation);
+  }
+
+  /**
+   * Version to pass to {@link #etagAt} when the ETag also depends on the loaded data; read it
+   * before loading.
+   */
+  public long current() {
+    return version.get();
+  }
+
+  public String etagAt(long collectionVersion, Object... representation) {
+    return "\"" + epoch + "-" + collectionVersion + "-"
+        + Integer.toHexString(Arrays.hashCode(representation)) + "\"";
+  }
+}
@@ -0,0 +1,235 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.dto.BatchItemResult;
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.exception.DuplicateTaskException;
+import com.project.taskmgmt.exception.TaskCommitTimeoutException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ValidationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entry point for single task creation, optionally with group commit.
+ * When enabled, create requests wait in a bounded queue and one writer thread commits up to
+ * {@code batch-size} of them per transaction through {@link TaskService#createTasks}, waiting at
+ * most {@code max-wait-ms} after the first request for more to arrive. Each caller still blocks
+ * until its own task is committed, at most {@code commit-timeout-ms}, and gets its own
+ * {@link TaskResponse} or exception. When disabled, or when the queue is full, requests are
+ * committed one by one as before.
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskCreateWriter implements SmartLifecycle {
+  private static final Logger log = LoggerFactory.getLogger(TaskCreateWriter.class);
+
+  private record Pending(CreateTaskRequest request, CompletableFuture<TaskResponse> result) {}
+
+  private final TaskService taskService;
+  private final boolean enabled;
+  private final int batchSize;
+  private final long maxWaitNanos;
+  private final long commitTimeoutMs;
+  private final BlockingQueue<Pending> queue;
+  private final DistributionSummary batchSizes;
+  private volatile boolean running;
+  private Thread writer;
+
+  public TaskCreateWriter(
+      TaskService taskService,
+      MeterRegistry registry,
+      @Value("${tasks.group-commit.enabled:false}") boolean enabled,
+      @Value("${tasks.group-commit.batch-size:200}") int batchSize,
+      @Value("${tasks.group-commit.max-wait-ms:5}") long maxWaitMs,
+      @Value("${tasks.group-commit.queue-capacity:10000}") int queueCapacity,
+      @Value("${tasks.group-commit.commit-timeout-ms:30000}") long commitTimeoutMs) {
+    this.taskService = taskService;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+    this.commitTimeoutMs = commitTimeoutMs;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSizes =
+        DistributionSummary.builder("tasks.group.commit.batch")
+            .description("Create requests committed per group-commit transaction")
+            .register(registry);
+    Gauge.builder("tasks.group.commit.queue", queue, BlockingQueue::size)
+        .description("Create requests waiting for the group-commit writer")
+        .register(registry);
+  }
+
+  /**
+   * Creates a task and returns once it is committed.
+   *
+   * @throws DuplicateTaskException if the title is already used that day
+   * @throws TaskCommitTimeoutException if the writer took the request but did not confirm it in
+   *     time
+   */
+  public TaskResponse create(CreateTaskRequest request) {
+    if (!running) {
+      return taskService.createTask(request);
+    }
+    Pending pending = new Pending(request, new CompletableFuture<>());
+    if (!queue.offer(pending)) {
+      // Saturated: commit on the caller's thread rather than queueing without bound.
+      return taskService.createTask(request);
+    }
+    if (!running && queue.remove(pending)) {
+      // stop() ran between the check above and the offer, and its final drain may have missed
+      // this request; nobody else holds it now, so commit it here.
+      return taskService.createTask(request);
+    }
+    try {
+      return pending.result().get(commitTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Group commit failed", ex.getCause());
+    } catch (TimeoutException ex) {
+      if (queue.remove(pending)) {
+        // Still queued, so the writer never saw it.
+        return taskService.createTask(request);
+      }
+      throw new TaskCommitTimeoutException(commitTimeoutMs);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the group commit", ex);
+    }
+  }
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    writer = new Thread(this::drainLoop, "task-group-commit");
+    writer.setDaemon(true);
+    writer.start();
+    log.info(
+        "Group commit enabled. batchSize={}, maxWaitMs={}",
+        batchSize,
+        TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+  }
+
+  @Override
+  public void stop() {
+    if (writer == null) {
+      return;
+    }
+    running = false;
+    try {
+      writer.join(TimeUnit.SECONDS.toMillis(30));
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    writer = null;
+    // Requests that slipped in while the writer was exiting.
+    for (Pending pending = queue.poll(); pending != null; pending = queue.poll()) {
+      commitAlone(pending);
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void drainLoop() {
+    List<Pending> batch = new ArrayList<>(batchSize);
+    boolean drained = false;
+    try {
+      // Keep draining after stop() until requests accepted before it are committed.
+      while (running || !queue.isEmpty()) {
+        Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < batchSize) {
+          Pending next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        try {
+          commit(batch);
+        } catch (RuntimeException ex) {
+          log.error("Group commit failed", ex);
+          batch.forEach(pending -> pending.result().completeExceptionally(ex));
+        }
+        batch.clear();
+      }
+      drained = true;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (!drained) {
+        // Interrupted or failed with an Error: later creates commit on their callers' threads,
+        // and no caller is left waiting on a request this thread will never commit.
+        running = false;
+        failPending(batch);
+      }
+    }
+  }
+
+  private void failPending(List<Pending> batch) {
+    log.error(
+        "Group commit writer stopped unexpectedly; failing {} waiting creates",
+        batch.size() + queue.size());
+    IllegalStateException stopped = new IllegalStateException("Group commit writer stopped");
+    batch.forEach(pending -> pending.result().completeExceptionally(stopped));
+    for (Pending pending = queue.poll(); pending != null; pending = queue.poll()) {
+      pending.result().completeExceptionally(stopped);
+    }
+  }
+
+  private void commit(List<Pending> batch) {
+    List<CreateTaskRequest> requests = batch.stream().map(Pending::request).toList();
+    List<BatchItemResult> results;
+    try {
+      results = taskService.createTasks(requests);
+    } catch (DuplicateTaskException ex) {
+      // A title was taken concurrently outside this writer; fall back to one transaction per
+      // request so only the conflicting caller fails.
+      batch.forEach(this::commitAlone);
+      return;
+    }
+    batchSizes.record(batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      BatchItemResult result = results.get(i);
+      CompletableFuture<TaskResponse> future = batch.get(i).result();
+      switch (result.outcome()) {
+        case "CREATED" -> future.complete(result.task());
+        case "CONFLICT" -> future.completeExceptionally(new DuplicateTaskException(result.error()));
+        default -> future.completeExceptionally(new ValidationException(result.error()));
+      }
+    }
+  }
+
+  private void commitAlone(Pending pending) {
+    try {
+      pending.result().complete(taskService.createTask(pending.request()));
+    } catch (RuntimeException ex) {
+      pending.result().completeExceptionally(ex);
+    }
+  }
+}
@@ -0,0 +1,247 @@
+package com.project.taskmgmt.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.project.taskmgmt.dto.TaskResponse;
+import jakarta.validation.ValidationException;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes every task as CSV or NDJSON straight from the database cursor of
+ * {@link TaskService#streamAllTasks}, through a fixed-size buffer, so an export never holds more
+ * than one row on the heap. Exports go either to a response stream or to gzip-compressed snapshot
+ * files in {@code tasks.export.dir}, of which the newest {@code snapshot-retention} are kept.
+ * Archived tasks are included unless the caller opts out, so reports keep old completed tasks.
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskExporter {
+  private static final Logger log = LoggerFactory.getLogger(TaskExporter.class);
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final String CSV_HEADER =
+      "id,title,description,priority,status,createdAt,completedAt,updatedAt,version\n";
+  private static final DateTimeFormatter SNAPSHOT_TIME =
+      DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+  private static final Pattern SNAPSHOT_NAME =
+      Pattern.compile("tasks-\\d{8}T\\d{6}Z\\.(csv|ndjson)\\.gz");
+
+  /**
+   * Export file formats.
+   */
+  public enum Format {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    Format(String mediaType) {
+      this.mediaType = mediaType;
+    }
+
+    public String mediaType() {
+      return mediaType;
+    }
+
+    public String extension() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static Format parse(String value) {
+      for (Format format : values()) {
+        if (format.extension().equalsIgnoreCase(value)) {
+          return format;
+        }
+      }
+      throw new ValidationException("format must be csv or ndjson");
+    }
+  }
+
+  /**
+   * A snapshot file; {@code name} is the handle clients download it by.
+   */
+  public record Snapshot(String name, Path path, long bytes) {}
+
+  private final TaskService taskService;
+  private final ObjectWriter taskWriter;
+  private final Path directory;
+  private final int retention;
+  private final Format scheduledFormat;
+  private final boolean scheduledIncludeArchived;
+
+  public TaskExporter(
+      TaskService taskService,
+      ObjectMapper objectMapper,
+      @Value("${tasks.export.dir:${java.io.tmpdir}/task-exports}") Path directory,
+      @Value("${tasks.export.snapshot-retention:3}") int retention,
+      @Value("${tasks.export.snapshot-format:csv}") String scheduledFormat,
+      @Value("${tasks.export.snapshot-include-archived:true}") boolean scheduledIncludeArchived) {
+    this.taskService = taskService;
+    this.taskWriter = objectMapper.writerFor(TaskResponse.class);
+    this.directory = directory;
+    this.retention = retention;
+    this.scheduledFormat = Format.parse(scheduledFormat);
+    this.scheduledIncludeArchived = scheduledIncludeArchived;
+  }
+
+  /**
+   * Writes every task to {@code out}, optionally gzip-compressed. Does not close {@code out}.
+   */
+  public void export(Format format, OutputStream out, boolean gzip, boolean includeArchived)
+      throws IOException {
+    if (!gzip) {
+      BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+      write(format, buffered, includeArchived);
+      buffered.flush();
+      return;
+    }
+    GZIPOutputStream compressed = new GZIPOutputStream(out, BUFFER_SIZE);
+    write(format, new BufferedOutputStream(compressed, BUFFER_SIZE), includeArchived);
+    compressed.finish();
+  }
+
+  /**
+   * Writes a gzip-compressed snapshot of every task to the export directory. The file only
+   * appears under its final name once complete, so a download never sees a partial export.
+   */
+  public Snapshot writeSnapshot(Format format, boolean includeArchived) throws IOException {
+    Files.createDirectories(directory);
+    Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    String name = "tasks-" + SNAPSHOT_TIME.format(now) + "." + format.extension() + ".gz";
+    Path target = directory.resolve(name);
+    Path partial = Files.createTempFile(directory, "tasks-", ".partial");
+    try {
+      try (OutputStream out = Files.newOutputStream(partial)) {
+        export(format, out, true, includeArchived);
+      }
+      Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(partial);
+    }
+    Snapshot snapshot = new Snapshot(name, target, Files.size(target));
+    log.info("Task snapshot written. name={}, bytes={}", name, snapshot.bytes());
+    pruneSnapshots();
+    return snapshot;
+  }
+
+  /**
+   * Nightly-style snapshot on {@code tasks.export.snapshot-cron}; disabled by default.
+   */
+  @Scheduled(cron = "${tasks.export.snapshot-cron:-}")
+  public void scheduledSnapshot() throws IOException {
+    writeSnapshot(scheduledFormat, scheduledIncludeArchived);
+  }
+
+  /**
+   * Looks up a snapshot by name; names that could not have been produced here resolve to empty,
+   * so a request can never reach files outside the export directory.
+   */
+  public Optional<Snapshot> findSnapshot(String name) throws IOException {
+    if (!SNAPSHOT_NAME.matcher(name).matches()) {
+      return Optional.empty();
+    }
+    Path path = directory.resolve(name);
+    if (!Files.isRegularFile(path)) {
+      return Optional.empty();
+    }
+    return Optional.of(new Snapshot(name, path, Files.size(path)));
+  }
+
+  private void write(Format format, OutputStream out, boolean includeArchived)
+      throws IOException {
+    if (format == Format.CSV) {
+      out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+    }
+    try {
+      taskService.streamAllTasks(includeArchived, task -> writeRow(format, out, task));
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+    out.flush();
+  }
+
+  private void writeRow(Format format, OutputStream out, TaskResponse task) {
+    try {
+      if (format == Format.NDJSON) {
+        out.write(taskWriter.writeValueAsBytes(task));
+        out.write('\n');
+      } else {
+        out.write(csvRow(task).getBytes(StandardCharsets.UTF_8));
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  static String csvRow(TaskResponse task) {
+    StringBuilder row = new StringBuilder(128);
+    row.append(task.id()).append(',');
+    appendQuoted(row, task.title());
+    row.append(',');
+    appendQuoted(row, task.description());
+    row.append(',').append(task.priority());
+    row.append(',').append(task.status());
+    row.append(',').append(task.createdAt());
+    row.append(',').append(task.completedAt() != null ? task.completedAt() : "");
+    row.append(',').append(task.updatedAt());
+    row.append(',').append(task.version());
+    return row.append('\n').toString();
+  }
+
+  /**
+   * RFC 4180 quoting, applied only when the value needs it.
+   */
+  private static void appendQuoted(StringBuilder row, String value) {
+    if (value == null) {
+      return;
+    }
+    boolean quote =
+        value.indexOf(',') >= 0
+            || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0
+            || value.indexOf('\r') >= 0;
+    if (!quote) {
+      row.append(value);
+      return;
+    }
+    row.append('"').append(value.replace("\"", "\"\"")).append('"');
+  }
+
+  private void pruneSnapshots() throws IOException {
+    List<Path> snapshots;
+    try (Stream<Path> files = Files.list(directory)) {
+      snapshots =
+          files
+              .filter(path -> SNAPSHOT_NAME.matcher(path.getFileName().toString()).matches())
+              .sorted(Comparator.comparing(Path::getFileName).reversed())
+              .toList();
+    }
+    for (Path old : snapshots.subList(Math.min(retention, snapshots.size()), snapshots.size())) {
+      Files.deleteIfExists(old);
+    }
+  }
+}
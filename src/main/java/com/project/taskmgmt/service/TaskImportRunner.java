@@ -0,0 +1,65 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.dto.TaskImportResult;
+import java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line import: {@code --tasks.import.file=tasks.csv} imports the file at startup and,
+ * unless {@code tasks.import.exit} is false, shuts the application down with exit code 0 on
+ * success and 1 on failure. Does nothing without a file.
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskImportRunner implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(TaskImportRunner.class);
+
+  private final TaskImporter importer;
+  private final ConfigurableApplicationContext context;
+  private final String file;
+  private final String format;
+  private final boolean exit;
+
+  public TaskImportRunner(
+      TaskImporter importer,
+      ConfigurableApplicationContext context,
+      @Value("${tasks.import.file:}") String file,
+      @Value("${tasks.import.format:}") String format,
+      @Value("${tasks.import.exit:true}") boolean exit) {
+    this.importer = importer;
+    this.context = context;
+    this.file = file;
+    this.format = format;
+    this.exit = exit;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (file.isBlank()) {
+      return;
+    }
+    int exitCode = 0;
+    try {
+      TaskImporter.Format resolved = format.isBlank() ? null : TaskImporter.Format.parse(format);
+      TaskImportResult result = importer.importFile(Path.of(file), resolved);
+      if (result.rejected() > 0) {
+        log.warn("Rejected records were written to {}", result.rejectsFile());
+      }
+    } catch (Exception ex) {
+      log.error("Task import failed; rerun to resume from the last checkpoint. file={}", file, ex);
+      exitCode = 1;
+    }
+    if (exit) {
+      int code = exitCode;
+      System.exit(SpringApplication.exit(context, () -> code));
+    }
+  }
+}
@@ -0,0 +1,499 @@
+package com.project.taskmgmt.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.project.taskmgmt.dto.BatchItemResult;
+import com.project.taskmgmt.dto.ImportTaskRequest;
+import com.project.taskmgmt.dto.TaskImportResult;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.exception.DuplicateTaskException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ValidationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulk import of CSV or NDJSON task files with the semantics of {@code POST /tasks}, keeping the
+ * status, creation and completion times a record carries, so {@code /tasks/export} output imports
+ * without loss and duplicates are checked against the day each task was originally created.
+ * The calling thread splits the input into records and chunks of {@code batch-size}; a pool of
+ * {@code parallelism} workers parses and validates chunks while earlier ones are committed.
+ * Chunks are committed in input order through {@link TaskService#importTasks}, which detects
+ * duplicate titles within the chunk and against the database with one query. At most
+ * {@code 2 * parallelism} chunks are parsed ahead of the commits, so reading waits for the
+ * database instead of buffering the file.
+ * After each chunk the number of the last committed record is saved as the checkpoint; a rerun of
+ * the same job skips records up to it. Invalid and duplicate records are appended to a rejects
+ * file as NDJSON. A crash between a commit and its checkpoint makes the rerun report that chunk's
+ * records as duplicates instead of importing them twice.
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskImporter {
+  private static final Logger log = LoggerFactory.getLogger(TaskImporter.class);
+
+  private static final Pattern JOB_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+  /**
+   * Import file formats; CSV needs a header row naming at least the {@code title} column, and
+   * reads the same columns as NDJSON, in any order and case.
+   */
+  public enum Format {
+    CSV,
+    NDJSON;
+
+    public static Format parse(String value) {
+      for (Format format : values()) {
+        if (format.name().equalsIgnoreCase(value)) {
+          return format;
+        }
+      }
+      throw new ValidationException("format must be csv or ndjson");
+    }
+
+    static Format of(Path file) {
+      String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+      return name.endsWith(".csv") ? CSV : NDJSON;
+    }
+  }
+
+  private record Chunk(long firstRecord, List<String> records) {}
+
+  private record Row(long record, String raw, ImportTaskRequest request, String error) {}
+
+  private static final class Progress {
+    long read;
+    long imported;
+    long rejected;
+    long skipped;
+  }
+
+  private final TaskService taskService;
+  private final ObjectReader requestReader;
+  private final ObjectWriter rejectWriter;
+  private final Path directory;
+  private final int batchSize;
+  private final int parallelism;
+  private final long progressInterval;
+  private final Counter importedRows;
+  private final Counter rejectedRows;
+
+  public TaskImporter(
+      TaskService taskService,
+      ObjectMapper objectMapper,
+      MeterRegistry registry,
+      @Value("${tasks.import.dir:${java.io.tmpdir}/task-imports}") Path directory,
+      @Value("${tasks.import.batch-size:1000}") int batchSize,
+      @Value("${tasks.import.parallelism:4}") int parallelism,
+      @Value("${tasks.import.progress-interval:100000}") long progressInterval) {
+    this.taskService = taskService;
+    this.requestReader = objectMapper.readerFor(ImportTaskRequest.class);
+    this.rejectWriter = objectMapper.writer();
+    this.directory = directory;
+    this.batchSize = batchSize;
+    this.parallelism = parallelism;
+    this.progressInterval = progressInterval;
+    this.importedRows =
+        Counter.builder("tasks.import.rows")
+            .tag("outcome", "imported")
+            .description("Records imported by bulk imports")
+            .register(registry);
+    this.rejectedRows =
+        Counter.builder("tasks.import.rows")
+            .tag("outcome", "rejected")
+            .description("Records rejected by bulk imports")
+            .register(registry);
+  }
+
+  /**
+   * Imports an uploaded file. Its checkpoint and rejects live in the import directory under the
+   * job id; passing the id of an interrupted job resumes it. A null id starts a new job.
+   */
+  public TaskImportResult importUpload(String jobId, Format format, InputStream input)
+      throws IOException {
+    String id = jobId != null ? jobId : UUID.randomUUID().toString();
+    if (!JOB_ID.matcher(id).matches()) {
+      throw new ValidationException("jobId must be 1-64 letters, digits, '-' or '_'");
+    }
+    Files.createDirectories(directory);
+    return run(
+        id,
+        format,
+        input,
+        directory.resolve(id + ".checkpoint"),
+        directory.resolve(id + ".rejects.ndjson"));
+  }
+
+  /**
+   * Imports a local file, keeping its checkpoint and rejects next to it. Rerunning the same file
+   * resumes after the last checkpoint.
+   */
+  public TaskImportResult importFile(Path file, Format format) throws IOException {
+    Format resolved = format != null ? format : Format.of(file);
+    try (InputStream input = Files.newInputStream(file)) {
+      return run(
+          file.getFileName().toString(),
+          resolved,
+          input,
+          file.resolveSibling(file.getFileName() + ".checkpoint"),
+          file.resolveSibling(file.getFileName() + ".rejects.ndjson"));
+    }
+  }
+
+  private TaskImportResult run(
+      String jobId, Format format, InputStream input, Path checkpointFile, Path rejectsFile)
+      throws IOException {
+    long checkpoint = readCheckpoint(checkpointFile);
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+    Map<String, Integer> columns = format == Format.CSV ? readHeader(reader) : Map.of();
+    Progress progress = new Progress();
+    ExecutorService workers =
+        Executors.newFixedThreadPool(
+            parallelism,
+            task -> {
+              Thread thread = new Thread(task, "task-import");
+              thread.setDaemon(true);
+              return thread;
+            });
+    Deque<Future<List<Row>>> inFlight = new ArrayDeque<>();
+    log.info("Task import started. jobId={}, format={}, checkpoint={}", jobId, format, checkpoint);
+    try (Writer rejects =
+        Files.newBufferedWriter(
+            rejectsFile,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND)) {
+      List<String> records = new ArrayList<>(batchSize);
+      long firstRecord = 0;
+      for (String raw = readRecord(reader, format); raw != null; raw = readRecord(reader, format)) {
+        if (raw.isBlank()) {
+          continue;
+        }
+        progress.read++;
+        if (progress.read <= checkpoint) {
+          progress.skipped++;
+          continue;
+        }
+        if (records.isEmpty()) {
+          firstRecord = progress.read;
+        }
+        records.add(raw);
+        if (records.size() == batchSize) {
+          Chunk chunk = new Chunk(firstRecord, records);
+          inFlight.add(workers.submit(() -> parse(chunk, format, columns)));
+          records = new ArrayList<>(batchSize);
+          if (inFlight.size() >= 2 * parallelism) {
+            commit(inFlight.poll(), progress, rejects, checkpointFile);
+          }
+        }
+      }
+      if (!records.isEmpty()) {
+        Chunk chunk = new Chunk(firstRecord, records);
+        inFlight.add(workers.submit(() -> parse(chunk, format, columns)));
+      }
+      while (!inFlight.isEmpty()) {
+        commit(inFlight.poll(), progress, rejects, checkpointFile);
+      }
+    } finally {
+      workers.shutdownNow();
+    }
+    log.info(
+        "Task import finished. jobId={}, read={}, imported={}, rejected={}, skipped={}",
+        jobId,
+        progress.read,
+        progress.imported,
+        progress.rejected,
+        progress.skipped);
+    return new TaskImportResult(
+        jobId,
+        progress.read,
+        progress.imported,
+        progress.rejected,
+        progress.skipped,
+        rejectsFile.toString());
+  }
+
+  private void commit(Future<List<Row>> parsed, Progress progress, Writer rejects, Path checkpoint)
+      throws IOException {
+    List<Row> rows;
+    try {
+      rows = parsed.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Task import interrupted", ex);
+    } catch (ExecutionException ex) {
+      throw new IllegalStateException("Task import worker failed", ex.getCause());
+    }
+    List<Row> valid = new ArrayList<>(rows.size());
+    for (Row row : rows) {
+      if (row.error() != null) {
+        reject(rejects, row, "INVALID", row.error(), progress);
+      } else {
+        valid.add(row);
+      }
+    }
+    List<BatchItemResult> results = createAll(valid);
+    for (int i = 0; i < valid.size(); i++) {
+      BatchItemResult result = results.get(i);
+      if ("CREATED".equals(result.outcome())) {
+        progress.imported++;
+        importedRows.increment();
+      } else {
+        reject(rejects, valid.get(i), result.outcome(), result.error(), progress);
+      }
+    }
+    rejects.flush();
+    long previous = progress.imported + progress.rejected - rows.size();
+    writeCheckpoint(checkpoint, rows.get(rows.size() - 1).record());
+    if (previous / progressInterval != (previous + rows.size()) / progressInterval) {
+      log.info(
+          "Task import progress. read={}, imported={}, rejected={}",
+          progress.read,
+          progress.imported,
+          progress.rejected);
+    }
+  }
+
+  private List<BatchItemResult> createAll(List<Row> rows) {
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+    List<ImportTaskRequest> requests = rows.stream().map(Row::request).toList();
+    try {
+      return taskService.importTasks(requests);
+    } catch (DuplicateTaskException ex) {
+      // A title was taken concurrently by another writer; retry one by one so only it fails.
+      List<BatchItemResult> results = new ArrayList<>(requests.size());
+      for (int i = 0; i < requests.size(); i++) {
+        try {
+          results.add(taskService.importTasks(List.of(requests.get(i))).get(0));
+        } catch (DuplicateTaskException duplicate) {
+          results.add(BatchItemResult.failed(i, null, "CONFLICT", duplicate.getMessage()));
+        }
+      }
+      return results;
+    }
+  }
+
+  private void reject(Writer rejects, Row row, String outcome, String error, Progress progress)
+      throws IOException {
+    Map<String, Object> line = new LinkedHashMap<>();
+    line.put("record", row.record());
+    line.put("outcome", outcome);
+    line.put("error", error);
+    line.put("raw", row.raw());
+    rejects.write(rejectWriter.writeValueAsString(line));
+    rejects.write('\n');
+    progress.rejected++;
+    rejectedRows.increment();
+  }
+
+  private List<Row> parse(Chunk chunk, Format format, Map<String, Integer> columns) {
+    List<Row> rows = new ArrayList<>(chunk.records().size());
+    long record = chunk.firstRecord();
+    for (String raw : chunk.records()) {
+      try {
+        ImportTaskRequest request =
+            format == Format.CSV ? fromCsv(raw, columns) : requestReader.readValue(raw);
+        rows.add(new Row(record, raw, validate(request), null));
+      } catch (ValidationException ex) {
+        rows.add(new Row(record, raw, null, ex.getMessage()));
+      } catch (JsonProcessingException ex) {
+        rows.add(new Row(record, raw, null, "malformed record: " + ex.getOriginalMessage()));
+      }
+      record++;
+    }
+    return rows;
+  }
+
+  private static ImportTaskRequest validate(ImportTaskRequest request) {
+    if (request == null) {
+      throw new ValidationException("record must be a JSON object");
+    }
+    String title = TaskRules.normalizeTitle(request.getTitle());
+    TaskRules.checkDescription(request.getDescription());
+    // Fails the record here, with its number, instead of in the commit.
+    TaskRules.buildImportedTask(request, title, Instant.now(), ZoneId.systemDefault());
+    request.setTitle(title);
+    return request;
+  }
+
+  private static ImportTaskRequest fromCsv(String raw, Map<String, Integer> columns) {
+    List<String> fields = csvFields(raw);
+    ImportTaskRequest request = new ImportTaskRequest();
+    request.setTitle(field(fields, columns.get("title")));
+    request.setDescription(field(fields, columns.get("description")));
+    request.setPriority(
+        parse(fields, columns, "priority", TaskImporter::priority, "one of LOW, MEDIUM, HIGH"));
+    request.setStatus(
+        parse(fields, columns, "status", TaskImporter::status, "one of PENDING, DONE"));
+    request.setCreatedAt(
+        parse(fields, columns, "createdAt", Instant::parse, "an ISO-8601 instant"));
+    request.setCreatedDate(
+        parse(fields, columns, "createdDate", LocalDate::parse, "an ISO-8601 date"));
+    request.setCompletedAt(
+        parse(fields, columns, "completedAt", Instant::parse, "an ISO-8601 instant"));
+    return request;
+  }
+
+  private static <T> T parse(
+      List<String> fields,
+      Map<String, Integer> columns,
+      String name,
+      Function<String, T> parser,
+      String expected) {
+    String value = field(fields, columns.get(name.toLowerCase(Locale.ROOT)));
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return parser.apply(value.trim());
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      throw new ValidationException(name + " must be " + expected);
+    }
+  }
+
+  private static Priority priority(String value) {
+    return Priority.valueOf(value.toUpperCase(Locale.ROOT));
+  }
+
+  private static Status status(String value) {
+    return Status.valueOf(value.toUpperCase(Locale.ROOT));
+  }
+
+  private static String field(List<String> fields, Integer column) {
+    if (column == null || column >= fields.size()) {
+      return null;
+    }
+    String value = fields.get(column);
+    return value.isEmpty() ? null : value;
+  }
+
+  private static Map<String, Integer> readHeader(BufferedReader reader) throws IOException {
+    String header = readRecord(reader, Format.CSV);
+    if (header == null) {
+      return Map.of();
+    }
+    if (header.startsWith("\uFEFF")) {
+      header = header.substring(1);
+    }
+    Map<String, Integer> columns = new HashMap<>();
+    List<String> names = csvFields(header);
+    for (int i = 0; i < names.size(); i++) {
+      columns.putIfAbsent(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+    }
+    if (!columns.containsKey("title")) {
+      throw new ValidationException("CSV header must contain a title column");
+    }
+    return columns;
+  }
+
+  /**
+   * Next record, or null at the end. A CSV record continues over line breaks inside quotes.
+   */
+  private static String readRecord(BufferedReader reader, Format format) throws IOException {
+    String line = reader.readLine();
+    if (line == null || format != Format.CSV || quoteCount(line) % 2 == 0) {
+      return line;
+    }
+    StringBuilder record = new StringBuilder(line);
+    long quotes = quoteCount(line);
+    while (quotes % 2 != 0) {
+      String next = reader.readLine();
+      if (next == null) {
+        break;
+      }
+      record.append('\n').append(next);
+      quotes += quoteCount(next);
+    }
+    return record.toString();
+  }
+
+  private static long quoteCount(String line) {
+    return line.chars().filter(c -> c == '"').count();
+  }
+
+  /**
+   * Splits one RFC 4180 record into its fields.
+   */
+  static List<String> csvFields(String record) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < record.length(); i++) {
+      char c = record.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          field.append(c);
+        } else if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    if (quoted) {
+      throw new ValidationException("unterminated quoted field");
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private static long readCheckpoint(Path file) throws IOException {
+    if (!Files.exists(file)) {
+      return 0;
+    }
+    return Long.parseLong(Files.readString(file).trim());
+  }
+
+  private static void writeCheckpoint(Path file, long record) throws IOException {
+    Path partial = file.resolveSibling(file.getFileName() + ".partial");
+    Files.writeString(partial, Long.toString(record));
+    Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE);
+  }
+}
@@ -0,0 +1,48 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.exception.DuplicateTaskException;
+import com.project.taskmgmt.exception.TaskNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Business-level meters for task operations: rejected writes and task counts per status.
+ * Per-operation latency is recorded separately through {@code @Timed} on {@link TaskService}.
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskMetrics {
+  private final Counter duplicateConflicts;
+  private final Counter notFound;
+
+  public TaskMetrics(MeterRegistry registry, TaskStatistics statistics) {
+    this.duplicateConflicts =
+        Counter.builder("tasks.conflicts")
+            .description("Writes rejected because the title is already used that day")
+            .register(registry);
+    this.notFound =
+        Counter.builder("tasks.not.found")
+            .description("Operations that referenced a task id that does not exist")
+            .register(registry);
+    for (Status status : Status.values()) {
+      Gauge.builder("tasks.count", statistics, s -> s.count(status))
+          .description("Number of tasks per status")
+          .tag("status", status.name())
+          .register(registry);
+    }
+  }
+
+  public DuplicateTaskException duplicate(DuplicateTaskException ex) {
+    duplicateConflicts.increment();
+    return ex;
+  }
+
+  public TaskNotFoundException notFound(Long id) {
+    notFound.increment();
+    return new TaskNotFoundException(id);
+  }
+}
@@ -0,0 +1,155 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.ImportTaskRequest;
+import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import jakarta.validation.ValidationException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Locale;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Task business rules shared by the blocking and the reactive service: title normalization,
+ * field lengths, defaults for new tasks, completion time on status changes and duplicate-title
+ * detection.
+ */
+final class TaskRules {
+  /** Column sizes of the tasks table; the in-memory store has no schema to enforce them. */
+  static final int MAX_TITLE_LENGTH = 255;
+  static final int MAX_DESCRIPTION_LENGTH = 2000;
+
+  record UpdateResult(boolean changed, boolean completedNow) {}
+
+  private TaskRules() {}
+
+  static String normalizeTitle(String title) {
+    if (title == null) {
+      throw new ValidationException("title must not be null");
+    }
+    String trimmed = title.trim();
+    if (trimmed.isEmpty()) {
+      throw new ValidationException("title must not be blank");
+    }
+    if (trimmed.length() > MAX_TITLE_LENGTH) {
+      throw new ValidationException("title must not exceed " + MAX_TITLE_LENGTH + " characters");
+    }
+    return trimmed;
+  }
+
+  static String checkDescription(String description) {
+    if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+      throw new ValidationException(
+          "description must not exceed " + MAX_DESCRIPTION_LENGTH + " characters");
+    }
+    return description;
+  }
+
+  static TaskEntity buildNewTask(
+      CreateTaskRequest request, String title, Instant now, LocalDate createdDate) {
+    TaskEntity entity = new TaskEntity();
+    entity.setTitle(title);
+    entity.setDescription(checkDescription(request.getDescription()));
+    entity.setPriority(request.getPriority() != null ? request.getPriority() : Priority.MEDIUM);
+    entity.setStatus(Status.PENDING);
+    entity.setCreatedAt(now);
+    entity.setCreatedDate(createdDate);
+    entity.setCompletedAt(null);
+    entity.setUpdatedAt(now);
+    return entity;
+  }
+
+  /**
+   * Builds an imported task that keeps the creation time, status and completion time of its
+   * source. The created date defaults to the day of {@code createdAt}, and {@code createdAt} to
+   * {@code now}. A completion time is required for DONE tasks and rejected for others.
+   */
+  static TaskEntity buildImportedTask(
+      ImportTaskRequest request, String title, Instant now, ZoneId zone) {
+    Instant createdAt = request.getCreatedAt() != null ? request.getCreatedAt() : now;
+    LocalDate createdDate =
+        request.getCreatedDate() != null
+            ? request.getCreatedDate()
+            : LocalDate.ofInstant(createdAt, zone);
+    Status status = request.getStatus() != null ? request.getStatus() : Status.PENDING;
+    Instant completedAt = request.getCompletedAt();
+    if (status == Status.DONE && completedAt == null) {
+      throw new ValidationException("completedAt is required when status is DONE");
+    }
+    if (status != Status.DONE && completedAt != null) {
+      throw new ValidationException("completedAt must be empty unless status is DONE");
+    }
+    if (completedAt != null && completedAt.isBefore(createdAt)) {
+      throw new ValidationException("completedAt must not be before createdAt");
+    }
+    TaskEntity entity = buildNewTask(request, title, createdAt, createdDate);
+    entity.setStatus(status);
+    entity.setCompletedAt(completedAt);
+    entity.setUpdatedAt(now);
+    return entity;
+  }
+
+  /**
+   * Returns the normalized new title when the request renames the task, otherwise null.
+   */
+  static String changedTitle(TaskEntity entity, UpdateTaskRequest request) {
+    if (request.getTitle() == null) {
+      return null;
+    }
+    String title = normalizeTitle(request.getTitle());
+    return title.equals(entity.getTitle()) ? null : title;
+  }
+
+  static UpdateResult applyUpdates(TaskEntity entity, UpdateTaskRequest request, Instant now) {
+    boolean changed = false;
+    boolean completedNow = false;
+
+    if (request.getTitle() != null) {
+      String title = normalizeTitle(request.getTitle());
+      if (!title.equals(entity.getTitle())) {
+        entity.setTitle(title);
+        changed = true;
+      }
+    }
+
+    if (request.getDescription() != null) {
+      entity.setDescription(checkDescription(request.getDescription()));
+      changed = true;
+    }
+
+    if (request.getPriority() != null && request.getPriority() != entity.getPriority()) {
+      entity.setPriority(request.getPriority());
+      changed = true;
+    }
+
+    Status newStatus = request.getStatus();
+    if (newStatus != null && newStatus != entity.getStatus()) {
+      if (newStatus == Status.DONE) {
+        entity.setCompletedAt(now);
+        completedNow = true;
+      } else if (newStatus == Status.PENDING) {
+        entity.setCompletedAt(null);
+      }
+      entity.setStatus(newStatus);
+      changed = true;
+    }
+
+    if (changed) {
+      entity.setUpdatedAt(now);
+    }
+    return new UpdateResult(changed, completedNow);
+  }
+
+  /**
+   * Whether the violation comes from the title-per-day unique constraint.
+   */
+  static boolean isTitlePerDayViolation(DataIntegrityViolationException ex) {
+    String message = ex.getMostSpecificCause().getMessage();
+    return message != null
+        && message.toLowerCase(Locale.ROOT).contains(TaskEntity.TITLE_PER_DAY_CONSTRAINT);
+  }
+}
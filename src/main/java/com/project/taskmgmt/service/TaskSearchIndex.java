@@ -0,0 +1,663 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.events.TaskChangedEvent;
+import com.project.taskmgmt.repository.TaskRepository;
+import com.project.taskmgmt.repository.TaskRepository.TaskText;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory inverted index over task titles and descriptions, ranked with BM25.
+ * Each indexed task takes a dense slot number, and each term keeps the slots containing it and how
+ * often in primitive arrays, in slot order. A search walks the postings of its own terms document
+ * at a time and keeps the best matches in a bounded heap; once the heap is full, tasks that only
+ * contain terms whose combined best score cannot beat the worst kept match are skipped (MaxScore).
+ * Title terms count {@value #TITLE_WEIGHT} times to rank title matches first.
+ * A changed task is indexed under a new slot and its old slot is marked dead; dead slots are
+ * dropped from the postings once they outnumber the live ones.
+ * Changes older than the last seen version of their task are ignored.
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskSearchIndex {
+  private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+  private static final int TITLE_WEIGHT = 2;
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  private static final int MIN_DEAD_SLOTS_TO_COMPACT = 1024;
+
+  /**
+   * A matching task and its relevance; higher scores rank first.
+   */
+  public record Match(long taskId, double score) {}
+
+  /**
+   * One page of matches and the number of tasks matching overall.
+   */
+  public record Result(List<Match> matches, int total) {}
+
+  private static final Comparator<Match> BEST_FIRST =
+      Comparator.comparingDouble(Match::score).reversed().thenComparingLong(Match::taskId);
+
+  /**
+   * Slots containing one term, ascending, each with an impact: the term frequency in the task in
+   * the high half and the task length in the low half, both capped at 0xFFFF, so scoring an entry
+   * reads a single array. Entries of dead slots stay until the next compaction; {@code live}
+   * counts the others.
+   */
+  private static final class Posting {
+    int[] slots = new int[4];
+    int[] impacts = new int[4];
+    int size;
+    int live;
+    int maxFrequency;
+
+    void add(int slot, int frequency, int length) {
+      if (size == slots.length) {
+        slots = Arrays.copyOf(slots, size * 2);
+        impacts = Arrays.copyOf(impacts, size * 2);
+      }
+      slots[size] = slot;
+      impacts[size] = Math.min(frequency, 0xFFFF) << 16 | Math.min(length, 0xFFFF);
+      size++;
+      live++;
+      maxFrequency = Math.max(maxFrequency, frequency(impacts[size - 1]));
+    }
+
+    static int frequency(int impact) {
+      return impact >>> 16;
+    }
+  }
+
+  /**
+   * BM25 term-frequency saturation {@code f / (f + norm(length))} for one search, tabulated for
+   * the small frequencies and lengths nearly every task has, so scoring a posting is a lookup.
+   */
+  private static final class Saturation {
+    private static final int FREQUENCIES = 16;
+    private static final int LENGTH_BITS = 8;
+
+    private final double lengthFree;
+    private final double perLength;
+    private final double[] table = new double[FREQUENCIES << LENGTH_BITS];
+
+    Saturation(double averageLength) {
+      this.lengthFree = K1 * (1 - B);
+      this.perLength = K1 * B / averageLength;
+      for (int frequency = 1; frequency < FREQUENCIES; frequency++) {
+        for (int length = 0; length < 1 << LENGTH_BITS; length++) {
+          table[frequency << LENGTH_BITS | length] = compute(frequency, length);
+        }
+      }
+    }
+
+    double of(int impact) {
+      int frequency = Posting.frequency(impact);
+      int length = impact & 0xFFFF;
+      return frequency < FREQUENCIES && length < 1 << LENGTH_BITS
+          ? table[frequency << LENGTH_BITS | length]
+          : compute(frequency, length);
+    }
+
+    /**
+     * The largest saturation of a frequency: the one of the shortest possible document.
+     */
+    double max(int frequency) {
+      return frequency / (frequency + lengthFree);
+    }
+
+    private double compute(int frequency, int length) {
+      return frequency / (frequency + lengthFree + perLength * length);
+    }
+  }
+
+  /**
+   * Position of one query term in its posting, with its BM25 weight {@code idf * (k1 + 1)} and
+   * best possible score.
+   */
+  private static final class Cursor {
+    final Posting posting;
+    final double weight;
+    final double maxScore;
+    int position;
+
+    Cursor(Posting posting, double weight, double maxScore) {
+      this.posting = posting;
+      this.weight = weight;
+      this.maxScore = maxScore;
+    }
+
+    int slot() {
+      return position < posting.size ? posting.slots[position] : Integer.MAX_VALUE;
+    }
+
+    int impact() {
+      return posting.impacts[position];
+    }
+
+    /**
+     * Moves to the first entry at or after {@code target}: a short linear scan, since candidates
+     * of common terms are close together, then galloping and bisecting.
+     */
+    void advanceTo(int target) {
+      int[] slots = posting.slots;
+      int end = Math.min(position + 8, posting.size);
+      while (position < end && slots[position] < target) {
+        position++;
+      }
+      if (position < end || position == posting.size) {
+        return;
+      }
+      int low = position;
+      int step = 1;
+      int high = low;
+      while (high < posting.size && slots[high] < target) {
+        low = high + 1;
+        high += step;
+        step <<= 1;
+      }
+      high = Math.min(high, posting.size);
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (slots[middle] < target) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      position = low;
+    }
+  }
+
+  /**
+   * Bounded min-heap of the best matches so far, with the worst kept match at the root.
+   */
+  private final class TopMatches {
+    private final double[] scores;
+    private final int[] slots;
+    private int size;
+
+    TopMatches(int capacity) {
+      this.scores = new double[capacity];
+      this.slots = new int[capacity];
+    }
+
+    boolean isFull() {
+      return size == scores.length;
+    }
+
+    double worstScore() {
+      return scores[0];
+    }
+
+    /**
+     * Keeps the match if the heap has room or it beats the worst kept one; returns whether the
+     * worst kept score changed.
+     */
+    boolean offer(double score, int slot) {
+      if (size < scores.length) {
+        scores[size] = score;
+        slots[size] = slot;
+        siftUp(size++);
+        return isFull();
+      }
+      if (!better(score, slot, scores[0], slots[0])) {
+        return false;
+      }
+      scores[0] = score;
+      slots[0] = slot;
+      siftDown();
+      return true;
+    }
+
+    List<Match> ranked() {
+      List<Match> ranked = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        ranked.add(new Match(taskIds[slots[i]], scores[i]));
+      }
+      ranked.sort(BEST_FIRST);
+      return ranked;
+    }
+
+    private void siftUp(int index) {
+      while (index > 0) {
+        int parent = (index - 1) >>> 1;
+        if (!better(scores[parent], slots[parent], scores[index], slots[index])) {
+          return;
+        }
+        swap(parent, index);
+        index = parent;
+      }
+    }
+
+    private void siftDown() {
+      int index = 0;
+      while (true) {
+        int worst = index;
+        for (int child = 2 * index + 1; child <= 2 * index + 2 && child < size; child++) {
+          if (better(scores[worst], slots[worst], scores[child], slots[child])) {
+            worst = child;
+          }
+        }
+        if (worst == index) {
+          return;
+        }
+        swap(worst, index);
+        index = worst;
+      }
+    }
+
+    private void swap(int i, int j) {
+      double score = scores[i];
+      scores[i] = scores[j];
+      scores[j] = score;
+      int slot = slots[i];
+      slots[i] = slots[j];
+      slots[j] = slot;
+    }
+  }
+
+  private final TaskRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Posting> postings = new HashMap<>();
+  private final Map<Long, Integer> slotsById = new HashMap<>();
+  private final Map<Long, Long> versions = new HashMap<>();
+  private long[] taskIds = new long[1024];
+  private int[] lengths = new int[1024];
+  // Postings of each slot's terms; null for free and dead slots.
+  private Posting[][] slotTerms = new Posting[1024][];
+  private long[] liveSlots = new long[1024 / 64];
+  private int slotCount;
+  private int deadSlots;
+  private long totalLength;
+
+  public TaskSearchIndex(TaskRepository repository, TransactionTemplate transactionTemplate) {
+    this.repository = repository;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  /**
+   * Reloads the index from every task in the database. Searches wait until it completes.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    lock.writeLock().lock();
+    try {
+      postings.clear();
+      slotsById.clear();
+      versions.clear();
+      Arrays.fill(slotTerms, 0, slotCount, null);
+      Arrays.fill(liveSlots, 0);
+      slotCount = 0;
+      deadSlots = 0;
+      totalLength = 0;
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            try (Stream<TaskText> tasks = repository.streamTextOrderedById()) {
+              tasks.forEach(
+                  task -> {
+                    put(task.getId(), task.getTitle(), task.getDescription());
+                    versions.put(task.getId(), task.getVersion() != null ? task.getVersion() : 0);
+                  });
+            }
+          });
+      log.info("Search index rebuilt. tasks={}, terms={}", slotsById.size(), postings.size());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void onTaskChanged(TaskChangedEvent event) {
+    lock.writeLock().lock();
+    try {
+      Long seen = versions.get(event.taskId());
+      if (seen != null && event.version() <= seen) {
+        return;
+      }
+      versions.put(event.taskId(), event.version());
+      remove(event.taskId());
+      TaskResponse current = event.current();
+      if (current != null) {
+        put(current.id(), current.title(), current.description());
+      }
+      if (deadSlots >= MIN_DEAD_SLOTS_TO_COMPACT && deadSlots > slotsById.size()) {
+        compact();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Ranks the tasks matching any term of {@code query} and returns {@code limit} of them starting
+   * at {@code offset}.
+   */
+  public Result search(String query, int offset, int limit) {
+    Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+    lock.readLock().lock();
+    try {
+      int taskCount = slotsById.size();
+      Saturation saturation =
+          new Saturation(taskCount == 0 ? 1 : (double) totalLength / taskCount);
+      List<Cursor> cursors = new ArrayList<>(queryTerms.size());
+      for (String term : queryTerms) {
+        Posting posting = postings.get(term);
+        if (posting == null || posting.live == 0) {
+          continue;
+        }
+        double idf = Math.log(1 + (taskCount - posting.live + 0.5) / (posting.live + 0.5));
+        double weight = idf * (K1 + 1);
+        // Scaled up so rounding never turns the bound into less than a real score.
+        double maxScore = weight * saturation.max(posting.maxFrequency) * (1 + 1e-9);
+        cursors.add(new Cursor(posting, weight, maxScore));
+      }
+      if (cursors.isEmpty()) {
+        return new Result(List.of(), 0);
+      }
+      int total = countMatches(cursors, taskCount);
+      int wanted = (int) Math.min((long) offset + limit, total);
+      List<Match> ranked;
+      if (wanted == 0) {
+        ranked = List.of();
+      } else if (cursors.size() == 1) {
+        ranked = top(cursors.get(0), wanted, saturation);
+      } else {
+        ranked = top(cursors, wanted, saturation);
+      }
+      return new Result(
+          ranked.size() <= offset ? List.of() : ranked.subList(offset, ranked.size()), total);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Lower-cased runs of letters and digits; the same analysis applies to tasks and queries.
+   */
+  static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null) {
+      return tokens;
+    }
+    int start = -1;
+    for (int i = 0; i <= text.length(); i++) {
+      boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+        start = -1;
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * The {@code wanted} best matches of a single term, best first. Once the heap is full, a posting
+   * whose saturation is below what the worst kept match needs is skipped with one comparison.
+   */
+  private List<Match> top(Cursor term, int wanted, Saturation saturation) {
+    TopMatches top = new TopMatches(wanted);
+    Posting posting = term.posting;
+    double needed = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < posting.size; i++) {
+      int slot = posting.slots[i];
+      double value = saturation.of(posting.impacts[i]);
+      if (value < needed || slotTerms[slot] == null) {
+        continue;
+      }
+      if (top.offer(term.weight * value, slot)) {
+        // Slightly lowered so a tie with the worst kept match still reaches the id comparison.
+        needed = top.worstScore() / term.weight * (1 - 1e-9);
+      }
+    }
+    return top.ranked();
+  }
+
+  /**
+   * The {@code wanted} best matches of several terms, best first. Cursors are ordered by their
+   * best possible score; the leading ones whose best scores add up to less than the worst kept
+   * match are non-essential, so only the others propose candidates and the leading ones are
+   * probed for those candidates alone, stopping as soon as a candidate cannot make the page.
+   */
+  private List<Match> top(List<Cursor> cursors, int wanted, Saturation saturation) {
+    Cursor[] terms = cursors.toArray(Cursor[]::new);
+    Arrays.sort(terms, Comparator.comparingDouble(cursor -> cursor.maxScore));
+    double[] bounds = new double[terms.length];
+    double sum = 0;
+    for (int i = 0; i < terms.length; i++) {
+      sum += terms[i].maxScore;
+      bounds[i] = sum;
+    }
+    // Summed in term order once a candidate survives, so a score never depends on the pruning.
+    double[] contributions = new double[terms.length];
+    TopMatches top = new TopMatches(wanted);
+    double threshold = Double.NEGATIVE_INFINITY;
+    int essential = 0;
+    while (true) {
+      if (essential == terms.length - 1) {
+        skipHopeless(terms[essential], threshold - bounds[essential - 1], saturation);
+      }
+      int slot = Integer.MAX_VALUE;
+      for (int i = essential; i < terms.length; i++) {
+        slot = Math.min(slot, terms[i].slot());
+      }
+      if (slot == Integer.MAX_VALUE) {
+        break;
+      }
+      double score = 0;
+      for (int i = essential; i < terms.length; i++) {
+        Cursor cursor = terms[i];
+        if (cursor.slot() == slot) {
+          contributions[i] = cursor.weight * saturation.of(cursor.impact());
+          score += contributions[i];
+          cursor.position++;
+        } else {
+          contributions[i] = 0;
+        }
+      }
+      if ((essential > 0 && score + bounds[essential - 1] < threshold)
+          || slotTerms[slot] == null) {
+        continue;
+      }
+      boolean candidate = true;
+      for (int i = essential - 1; i >= 0; i--) {
+        contributions[i] = 0;
+        if (score + bounds[i] < threshold) {
+          candidate = false;
+          break;
+        }
+        Cursor cursor = terms[i];
+        cursor.advanceTo(slot);
+        if (cursor.slot() == slot) {
+          contributions[i] = cursor.weight * saturation.of(cursor.impact());
+          score += contributions[i];
+        }
+      }
+      if (!candidate) {
+        continue;
+      }
+      score = 0;
+      for (double contribution : contributions) {
+        score += contribution;
+      }
+      if (top.offer(score, slot)) {
+        threshold = top.worstScore();
+        while (essential < terms.length && bounds[essential] < threshold) {
+          essential++;
+        }
+      }
+    }
+    return top.ranked();
+  }
+
+  /**
+   * Moves the only essential cursor past the entries whose own score is below {@code needed}, the
+   * gap the non-essential terms cannot close, without treating each of them as a candidate.
+   */
+  private void skipHopeless(Cursor lead, double needed, Saturation saturation) {
+    Posting posting = lead.posting;
+    int position = lead.position;
+    int[] impacts = posting.impacts;
+    while (position < posting.size && lead.weight * saturation.of(impacts[position]) < needed) {
+      position++;
+    }
+    lead.position = position;
+  }
+
+  /**
+   * Number of live tasks containing any of the terms: the union of their postings as a bitset
+   * over the slots, masked with the live slots, unless one term alone matches every task.
+   */
+  private int countMatches(List<Cursor> cursors, int taskCount) {
+    int most = 0;
+    for (Cursor cursor : cursors) {
+      most = Math.max(most, cursor.posting.live);
+    }
+    if (cursors.size() == 1 || most == taskCount) {
+      return most;
+    }
+    long[] seen = new long[(slotCount + 63) >>> 6];
+    for (Cursor cursor : cursors) {
+      Posting posting = cursor.posting;
+      int[] slots = posting.slots;
+      for (int i = 0; i < posting.size; i++) {
+        seen[slots[i] >>> 6] |= 1L << slots[i];
+      }
+    }
+    int total = 0;
+    for (int word = 0; word < seen.length; word++) {
+      total += Long.bitCount(seen[word] & liveSlots[word]);
+    }
+    return total;
+  }
+
+  /**
+   * Whether a match ranks above another: a higher score, or the lower task id on a tie.
+   */
+  private boolean better(double score, int slot, double otherScore, int otherSlot) {
+    return score > otherScore || (score == otherScore && taskIds[slot] < taskIds[otherSlot]);
+  }
+
+  private void put(Long id, String title, String description) {
+    Map<String, Integer> frequencies = new HashMap<>();
+    for (String token : tokenize(title)) {
+      frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+    }
+    for (String token : tokenize(description)) {
+      frequencies.merge(token, 1, Integer::sum);
+    }
+    if (slotCount == taskIds.length) {
+      int capacity = slotCount * 2;
+      taskIds = Arrays.copyOf(taskIds, capacity);
+      lengths = Arrays.copyOf(lengths, capacity);
+      slotTerms = Arrays.copyOf(slotTerms, capacity);
+      liveSlots = Arrays.copyOf(liveSlots, capacity / 64);
+    }
+    int slot = slotCount++;
+    int length = 0;
+    for (int frequency : frequencies.values()) {
+      length += frequency;
+    }
+    Posting[] terms = new Posting[frequencies.size()];
+    int term = 0;
+    for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+      Posting posting = postings.computeIfAbsent(entry.getKey(), key -> new Posting());
+      posting.add(slot, entry.getValue(), length);
+      terms[term++] = posting;
+    }
+    taskIds[slot] = id;
+    lengths[slot] = length;
+    slotTerms[slot] = terms;
+    liveSlots[slot >>> 6] |= 1L << slot;
+    slotsById.put(id, slot);
+    totalLength += length;
+  }
+
+  private void remove(Long id) {
+    Integer slot = slotsById.remove(id);
+    if (slot == null) {
+      return;
+    }
+    for (Posting posting : slotTerms[slot]) {
+      posting.live--;
+    }
+    slotTerms[slot] = null;
+    liveSlots[slot >>> 6] &= ~(1L << slot);
+    totalLength -= lengths[slot];
+    deadSlots++;
+  }
+
+  /**
+   * Renumbers the live slots densely, in their current order, and drops dead entries and empty
+   * terms from the postings.
+   */
+  private void compact() {
+    int[] renumbered = new int[slotCount];
+    int live = 0;
+    for (int slot = 0; slot < slotCount; slot++) {
+      if (slotTerms[slot] == null) {
+        renumbered[slot] = -1;
+        continue;
+      }
+      renumbered[slot] = live;
+      taskIds[live] = taskIds[slot];
+      lengths[live] = lengths[slot];
+      slotTerms[live] = slotTerms[slot];
+      slotsById.put(taskIds[live], live);
+      live++;
+    }
+    Arrays.fill(slotTerms, live, slotCount, null);
+    Arrays.fill(liveSlots, 0);
+    for (int slot = 0; slot < live; slot++) {
+      liveSlots[slot >>> 6] |= 1L << slot;
+    }
+    postings
+        .values()
+        .removeIf(
+            posting -> {
+              int size = 0;
+              int maxFrequency = 0;
+              for (int i = 0; i < posting.size; i++) {
+                int slot = renumbered[posting.slots[i]];
+                if (slot >= 0) {
+                  posting.slots[size] = slot;
+                  posting.impacts[size] = posting.impacts[i];
+                  maxFrequency = Math.max(maxFrequency, Posting.frequency(posting.impacts[i]));
+                  size++;
+                }
+              }
+              posting.size = size;
+              posting.maxFrequency = maxFrequency;
+              return size == 0;
+            });
+    log.debug("Search index compacted. tasks={}, deadSlots={}", live, deadSlots);
+    slotCount = live;
+    deadSlots = 0;
+  }
+}
@@ -1,25 +1,71 @@
 package com.project.taskmgmt.service;
 
+import com.project.taskmgmt.dto.BatchItemResult;
+import com.project.taskmgmt.dto.BatchUpdateTaskRequest;
 import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.ImportTaskRequest;
+import com.project.taskmgmt.dto.TaskDelta;
+import com.project.taskmgmt.dto.TaskPage;
+import com.project.taskmgmt.dto.TaskQuery;
+import com.project.taskmgmt.dto.TaskQueryPage;
 import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.TaskSearchHit;
+import com.project.taskmgmt.dto.TaskSearchPage;
+import com.project.taskmgmt.dto.TaskStats;
+import com.project.taskmgmt.dto.TaskTombstone;
 import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.entity.ArchivedTaskEntity;
 import com.project.taskmgmt.entity.Priority;
 import com.project.taskmgmt.entity.Status;
 import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.entity.TaskTombstoneEntity;
 import com.project.taskmgmt.exception.DuplicateTaskException;
-import com.project.taskmgmt.exception.TaskNotFoundException;
+import com.project.taskmgmt.exception.SyncWindowExpiredException;
+import com.project.taskmgmt.exception.TaskVersionMismatchException;
+import com.project.taskmgmt.events.TaskChangedEvent;
 import com.project.taskmgmt.events.TaskEvent;
-import com.project.taskmgmt.events.TaskKafkaProducer;
+import com.project.taskmgmt.events.TaskOutbox;
 import com.project.taskmgmt.mapper.TaskMapper;
+import com.project.taskmgmt.repository.ArchivedTaskRepository;
+import com.project.taskmgmt.repository.TaskQueryRepository;
 import com.project.taskmgmt.repository.TaskRepository;
+import com.project.taskmgmt.repository.TaskTitleView;
+import com.project.taskmgmt.repository.TaskTombstoneRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,174 +73,864 @@ import org.springframework.transaction.annotation.Transactional;
  * Service responsible for task lifecycle and enforcing core business rules.
  */
 @Service
+@Profile("!edge & !sharded")
 public class TaskService {
   private static final Logger log = LoggerFactory.getLogger(TaskService.class);
 
-  private record UpdateResult(boolean changed, boolean completedNow) {}
+  /**
+   * Cache of single-task lookups keyed by id; entries are evicted by {@link TaskCacheInvalidator}.
+   */
+  public static final String TASK_CACHE = "tasks";
+
+  // Field order of a query projection when the client does not pick fields, matching TaskResponse.
+  private static final List<String> PROJECTION_ORDER =
+      List.of(
+          "id",
+          "title",
+          "description",
+          "priority",
+          "status",
+          "createdAt",
+          "completedAt",
+          "updatedAt",
+          "version");
+
+  private record TitleKey(String title, LocalDate createdDate) {}
 
   private final TaskRepository repository;
+  private final TaskTombstoneRepository tombstones;
+  private final ArchivedTaskRepository archive;
   private final TaskMapper mapper;
-  private final TaskUrgencyComparator urgencyComparator;
-  private final TaskKafkaProducer kafkaProducer;
+  private final TaskOutbox outbox;
+  private final TaskUrgencyIndex urgencyIndex;
+  private final TaskSearchIndex searchIndex;
+  private final TaskStatistics statistics;
+  private final TaskMetrics metrics;
+  private final ApplicationEventPublisher eventPublisher;
+  private final EntityManager entityManager;
+  private final Validator validator;
+  private final int defaultPageSize;
+  private final int maxPageSize;
+  private final boolean useUrgencyIndex;
+  private final int maxBatchSize;
+  private final Duration tombstoneRetention;
+  private final Duration syncCommitLag;
 
   public TaskService(
       TaskRepository repository,
+      TaskTombstoneRepository tombstones,
+      ArchivedTaskRepository archive,
       TaskMapper mapper,
-      TaskUrgencyComparator urgencyComparator,
-      TaskKafkaProducer kafkaProducer) {
+      TaskOutbox outbox,
+      TaskUrgencyIndex urgencyIndex,
+      TaskSearchIndex searchIndex,
+      TaskStatistics statistics,
+      TaskMetrics metrics,
+      ApplicationEventPublisher eventPublisher,
+      EntityManager entityManager,
+      Validator validator,
+      @Value("${tasks.pagination.default-size:100}") int defaultPageSize,
+      @Value("${tasks.pagination.max-size:1000}") int maxPageSize,
+      @Value("${tasks.urgent.use-index:true}") boolean useUrgencyIndex,
+      @Value("${tasks.batch.max-size:10000}") int maxBatchSize,
+      @Value("${tasks.sync.tombstone-retention:P30D}") Duration tombstoneRetention,
+      @Value("${tasks.sync.commit-lag:PT10S}") Duration syncCommitLag) {
     this.repository = repository;
+    this.tombstones = tombstones;
+    this.archive = archive;
     this.mapper = mapper;
-    this.urgencyComparator = urgencyComparator;
-    this.kafkaProducer = kafkaProducer;
+    this.outbox = outbox;
+    this.urgencyIndex = urgencyIndex;
+    this.searchIndex = searchIndex;
+    this.statistics = statistics;
+    this.metrics = metrics;
+    this.eventPublisher = eventPublisher;
+    this.entityManager = entityManager;
+    this.validator = validator;
+    this.defaultPageSize = defaultPageSize;
+    this.maxPageSize = maxPageSize;
+    this.useUrgencyIndex = useUrgencyIndex;
+    this.maxBatchSize = maxBatchSize;
+    this.tombstoneRetention = tombstoneRetention;
+    this.syncCommitLag = syncCommitLag;
   }
 
   /**
    * Creates a new task and enforces the one-task-per-title-per-day rule.
+   * The rule is enforced by the unique constraint alone; a violation is mapped to
+   * {@link DuplicateTaskException}, so the common case costs a single insert.
    */
+  @Timed(value = "tasks.service", extraTags = {"operation", "createTask"})
   @Transactional
   public TaskResponse createTask(CreateTaskRequest request) {
-    String title = normalizeTitle(request.getTitle());
+    String title = TaskRules.normalizeTitle(request.getTitle());
     Instant now = Instant.now();
     LocalDate createdDate = LocalDate.ofInstant(now, ZoneId.systemDefault());
-
-    ensureNoDuplicateOnCreate(title, createdDate);
-
-    TaskEntity entity = buildNewTask(request, title, now, createdDate);
+    TaskEntity entity = TaskRules.buildNewTask(request, title, now, createdDate);
 
     try {
       TaskEntity saved = repository.saveAndFlush(entity);
       log.info("Task created successfully. id={}, title='{}'", saved.getId(), saved.getTitle());
-      kafkaProducer.send(new TaskEvent(saved.getId(), "CREATED", now));
-      return mapper.toResponse(saved);
+      outbox.enqueue(new TaskEvent(saved.getId(), "CREATED", now));
+      TaskResponse response = mapper.toResponse(saved);
+      eventPublisher.publishEvent(new TaskChangedEvent("CREATED", null, response));
+      return response;
     } catch (DataIntegrityViolationException ex) {
-      log.warn("Duplicate task detected at persistence layer", ex);
-      throw new DuplicateTaskException(title, createdDate);
+      throw duplicateOrRethrow(ex, new DuplicateTaskException(title, createdDate));
     }
   }
 
+  /**
+   * Returns a single task, read through the bounded task cache.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "getTask"})
+  @Cacheable(cacheNames = TASK_CACHE, key = "#id")
+  public TaskResponse getTask(Long id) {
+    return repository
+        .findById(id)
+        .map(mapper::toResponse)
+        .orElseThrow(() -> metrics.notFound(id));
+  }
+
+  /**
+   * Returns a single task, falling back to the archive once it has been moved out of the hot
+   * table. Not cached: archived tasks are rarely read and never change.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "getTaskIncludingArchived"})
+  @Transactional(readOnly = true)
+  public TaskResponse getTaskIncludingArchived(Long id) {
+    return repository
+        .findById(id)
+        .map(mapper::toResponse)
+        .or(() -> archive.findById(id).map(mapper::toResponse))
+        .orElseThrow(() -> metrics.notFound(id));
+  }
+
+  /**
+   * Returns one keyset page of tasks in id order, starting after the given cursor.
+   * The page size defaults to the configured size and is capped at the configured maximum.
+   * With {@code includeArchived} the page merges active and archived tasks by id.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "getTasks"})
   @Transactional(readOnly = true)
-  public List<TaskResponse> getAllTasks() {
-    List<TaskResponse> tasks = repository.findAll().stream().map(mapper::toResponse).toList();
-    log.info("Fetched all tasks. count={}", tasks.size());
-    return tasks;
+  public TaskPage getTasks(Long afterId, Integer limit, boolean includeArchived) {
+    int pageSize = resolvePageSize(limit);
+    long cursor = afterId != null ? afterId : 0L;
+    // Fetch one extra row to learn whether another page exists without a count query.
+    PageRequest window = PageRequest.of(0, pageSize + 1);
+    List<TaskResponse> rows =
+        repository.findByIdGreaterThanOrderByIdAsc(cursor, window).stream()
+            .map(mapper::toResponse)
+            .toList();
+    if (includeArchived) {
+      List<TaskResponse> archived =
+          archive.findByIdGreaterThanOrderByIdAsc(cursor, window).stream()
+              .map(mapper::toResponse)
+              .toList();
+      rows = mergeById(rows, archived, pageSize + 1);
+    }
+    boolean hasMore = rows.size() > pageSize;
+    List<TaskResponse> items = hasMore ? rows.subList(0, pageSize) : rows;
+    Long nextCursor = hasMore ? items.get(items.size() - 1).id() : null;
+    log.info(
+        "Fetched task page. afterId={}, count={}, nextCursor={}", cursor, items.size(), nextCursor);
+    return new TaskPage(items, nextCursor);
   }
 
   /**
-   * Returns pending tasks ordered by priority and oldest creation time first.
+   * Filtered and sorted task query that returns only the requested fields, read as a column
+   * projection without loading entities. Pages are addressed by offset; {@code afterId} narrows
+   * the result to ids after the cursor.
    */
+  @Timed(value = "tasks.service", extraTags = {"operation", "queryTasks"})
   @Transactional(readOnly = true)
-  public List<TaskResponse> getUrgentTasks() {
-    List<TaskEntity> tasks = repository.findByStatus(Status.PENDING);
-    tasks.sort(urgencyComparator);
-    List<TaskResponse> responses = tasks.stream().map(mapper::toResponse).toList();
+  public TaskQueryPage queryTasks(TaskQuery query, Long afterId, Integer limit) {
+    int pageSize = resolvePageSize(limit);
+    int offset = query.getOffset() != null ? query.getOffset() : 0;
+    if (offset < 0) {
+      throw new ValidationException("offset must not be negative");
+    }
+    ensureRange("created", query.getCreatedFrom(), query.getCreatedTo());
+    ensureRange("completed", query.getCompletedFrom(), query.getCompletedTo());
+    List<String> fields = resolveFields(query.getFields());
+    Sort sort = resolveSort(query.getSort());
+
+    List<Map<String, Object>> rows =
+        repository.findProjected(query, afterId, fields, sort, offset, pageSize + 1);
+    boolean hasMore = rows.size() > pageSize;
+    List<Map<String, Object>> items = hasMore ? rows.subList(0, pageSize) : rows;
+    log.info("Queried tasks. query={}, afterId={}, count={}", query, afterId, items.size());
+    return new TaskQueryPage(items, hasMore ? offset + pageSize : null);
+  }
+
+  /**
+   * Full-text search over titles and descriptions, best match first.
+   * Matches are ranked by the search index and only the returned page is loaded from the database.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "searchTasks"})
+  @Transactional(readOnly = true)
+  public TaskSearchPage searchTasks(String query, Integer offset, Integer limit) {
+    if (query == null || TaskSearchIndex.tokenize(query).isEmpty()) {
+      throw new ValidationException("q must contain at least one word");
+    }
+    int pageSize = resolvePageSize(limit);
+    int start = offset != null ? offset : 0;
+    if (start < 0) {
+      throw new ValidationException("offset must not be negative");
+    }
+
+    TaskSearchIndex.Result result = searchIndex.search(query, start, pageSize);
+    List<Long> ids = result.matches().stream().map(TaskSearchIndex.Match::taskId).toList();
+    Map<Long, TaskEntity> tasks =
+        repository.findAllById(ids).stream()
+            .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+    List<TaskSearchHit> hits = new ArrayList<>(ids.size());
+    for (TaskSearchIndex.Match match : result.matches()) {
+      TaskEntity task = tasks.get(match.taskId());
+      if (task != null) {
+        hits.add(new TaskSearchHit(mapper.toResponse(task), match.score()));
+      }
+    }
+    boolean hasMore = (long) start + pageSize < result.total();
+    log.info("Searched tasks. query={}, total={}, count={}", query, result.total(), hits.size());
+    return new TaskSearchPage(hits, result.total(), hasMore ? start + pageSize : null);
+  }
+
+  /**
+   * Counts per status and priority, recent completions per day and the average time to
+   * completion, read from counters maintained as tasks change.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "getStats"})
+  public TaskStats getStats() {
+    return statistics.snapshot();
+  }
+
+  /**
+   * Streams every task in id order to the sink through a forward-only cursor; with
+   * {@code includeArchived} archived tasks are merged in by id from a second cursor.
+   * Entities are detached as soon as they are mapped so memory stays flat regardless of table size.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "streamAllTasks"})
+  @Transactional(readOnly = true)
+  public void streamAllTasks(boolean includeArchived, Consumer<TaskResponse> sink) {
+    long count = 0;
+    try (Stream<TaskEntity> tasks = repository.streamAllOrderedById();
+        Stream<ArchivedTaskEntity> archived =
+            includeArchived ? archive.streamAllOrderedById() : Stream.empty()) {
+      Iterator<TaskResponse> active = tasks.map(detaching(mapper::toResponse)).iterator();
+      Iterator<TaskResponse> old = archived.map(detaching(mapper::toResponse)).iterator();
+      TaskResponse nextActive = nextOrNull(active);
+      TaskResponse nextArchived = nextOrNull(old);
+      while (nextActive != null || nextArchived != null) {
+        if (nextArchived == null || (nextActive != null && nextActive.id() < nextArchived.id())) {
+          sink.accept(nextActive);
+          nextActive = nextOrNull(active);
+        } else {
+          sink.accept(nextArchived);
+          nextArchived = nextOrNull(old);
+        }
+        count++;
+      }
+    }
+    log.info("Streamed all tasks. count={}, includeArchived={}", count, includeArchived);
+  }
+
+  /**
+   * Returns pending tasks ordered by priority and oldest creation time first.
+   * Served from the urgency index once it is built, otherwise from the database.
+   * A null limit returns every pending task.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "getUrgentTasks"})
+  public List<TaskResponse> getUrgentTasks(Integer limit) {
+    if (limit != null && limit < 1) {
+      throw new ValidationException("limit must be positive");
+    }
+    List<TaskResponse> responses;
+    if (useUrgencyIndex && urgencyIndex.isReady()) {
+      responses = urgencyIndex.top(limit);
+    } else {
+      responses = findUrgentInDatabase(limit).stream().map(mapper::toResponse).toList();
+    }
     log.info("Fetched urgent tasks. count={}", responses.size());
     return responses;
   }
 
+  /**
+   * Incremental sync: tasks modified and tasks deleted after the (changedSince, afterId) cursor,
+   * in one page of at most {@code limit} entries in time order. Without {@code afterId} changes
+   * made exactly at {@code changedSince} are included.
+   * Timestamps are taken before their transaction commits, so a slow commit can become visible
+   * after later changes were already served. Only changes older than {@code tasks.sync.commit-lag}
+   * are returned, and the next cursor never passes that bound, so a change is not skipped unless
+   * its transaction took longer than the lag.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "getChangesSince"})
+  @Transactional(readOnly = true)
+  public TaskDelta getChangesSince(Instant changedSince, Long afterId, Integer limit) {
+    Instant oldestAvailable = Instant.now().minus(tombstoneRetention);
+    if (changedSince.isBefore(oldestAvailable)) {
+      throw new SyncWindowExpiredException(changedSince, oldestAvailable);
+    }
+    int pageSize = resolvePageSize(limit);
+    long cursorId = afterId != null ? afterId : Long.MIN_VALUE;
+    Instant settled = Instant.now().minus(syncCommitLag);
+    PageRequest window = PageRequest.of(0, pageSize + 1);
+    List<TaskEntity> rows = repository.findChangedAfter(changedSince, cursorId, settled, window);
+    List<TaskTombstoneEntity> removals =
+        tombstones.findDeletedAfter(changedSince, cursorId, settled, window);
+
+    // Both lists are ordered by (time, id); merge them and cut one page off the front.
+    List<TaskEntity> page = new ArrayList<>();
+    List<TaskTombstone> deleted = new ArrayList<>();
+    Instant nextChangedSince = changedSince;
+    Long nextAfterId = afterId;
+    int changedIndex = 0;
+    int deletedIndex = 0;
+    while (page.size() + deleted.size() < pageSize
+        && (changedIndex < rows.size() || deletedIndex < removals.size())) {
+      TaskEntity row = changedIndex < rows.size() ? rows.get(changedIndex) : null;
+      TaskTombstoneEntity removal =
+          deletedIndex < removals.size() ? removals.get(deletedIndex) : null;
+      if (removal == null || (row != null && precedes(row, removal))) {
+        page.add(row);
+        changedIndex++;
+        nextChangedSince = row.getUpdatedAt();
+        nextAfterId = row.getId();
+      } else {
+        deleted.add(new TaskTombstone(removal.getTaskId(), removal.getDeletedAt()));
+        deletedIndex++;
+        nextChangedSince = removal.getDeletedAt();
+        nextAfterId = removal.getTaskId();
+      }
+    }
+    boolean hasMore = changedIndex < rows.size() || deletedIndex < removals.size();
+    log.info(
+        "Fetched task changes. changedSince={}, changed={}, deleted={}, hasMore={}",
+        changedSince,
+        page.size(),
+        deleted.size(),
+        hasMore);
+    return new TaskDelta(
+        page.stream().map(mapper::toResponse).toList(),
+        deleted,
+        nextChangedSince,
+        nextAfterId,
+        hasMore);
+  }
+
   /**
    * Updates a task with validation and ensures completion time is set when done.
    */
+  @Timed(value = "tasks.service", extraTags = {"operation", "updateTask"})
   @Transactional
   public TaskResponse updateTask(Long id, UpdateTaskRequest request) {
-    TaskEntity entity = repository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
+    return updateTask(id, request, null);
+  }
+
+  /**
+   * Updates a task only if its current version is one of {@code expectedVersions}; null accepts
+   * any version.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "updateTask"})
+  @Transactional
+  public TaskResponse updateTask(
+      Long id, UpdateTaskRequest request, Collection<Long> expectedVersions) {
+    TaskEntity entity = repository.findById(id).orElseThrow(() -> metrics.notFound(id));
+    if (expectedVersions != null && !expectedVersions.contains(entity.getVersion())) {
+      throw new TaskVersionMismatchException(id, entity.getVersion());
+    }
+    TaskResponse previous = mapper.toResponse(entity);
     Instant now = Instant.now();
-    UpdateResult result = applyUpdates(entity, request, now);
-    if (!result.changed) {
-      return mapper.toResponse(entity);
+    TaskRules.UpdateResult result = TaskRules.applyUpdates(entity, request, now);
+    if (!result.changed()) {
+      return previous;
     }
 
     try {
       TaskEntity saved = repository.saveAndFlush(entity);
       log.info("Task updated successfully. id={}, title='{}'", saved.getId(), saved.getTitle());
-      String eventType = result.completedNow ? "COMPLETED" : "UPDATED";
-      kafkaProducer.send(new TaskEvent(saved.getId(), eventType, now));
-      return mapper.toResponse(saved);
+      String eventType = result.completedNow() ? "COMPLETED" : "UPDATED";
+      outbox.enqueue(new TaskEvent(saved.getId(), eventType, now));
+      TaskResponse response = mapper.toResponse(saved);
+      eventPublisher.publishEvent(new TaskChangedEvent(eventType, previous, response));
+      return response;
     } catch (DataIntegrityViolationException ex) {
-      log.warn("Duplicate task detected at persistence layer", ex);
-      throw new DuplicateTaskException(entity.getTitle(), entity.getCreatedDate());
+      throw duplicateOrRethrow(
+          ex, new DuplicateTaskException(entity.getTitle(), entity.getCreatedDate()));
     }
   }
 
+  @Timed(value = "tasks.service", extraTags = {"operation", "deleteTask"})
   @Transactional
   public void deleteTask(Long id) {
-    TaskEntity entity = repository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
+    TaskEntity entity = repository.findById(id).orElseThrow(() -> metrics.notFound(id));
+    TaskResponse previous = mapper.toResponse(entity);
+    Instant now = Instant.now();
     repository.delete(entity);
+    tombstones.save(tombstone(id, now));
     log.info("Task deleted successfully. id={}, title='{}'", entity.getId(), entity.getTitle());
-    kafkaProducer.send(new TaskEvent(id, "DELETED", Instant.now()));
+    outbox.enqueue(new TaskEvent(id, "DELETED", now));
+    eventPublisher.publishEvent(new TaskChangedEvent("DELETED", previous, null));
+  }
+
+  /**
+   * Creates a batch of tasks in one transaction with batched inserts.
+   * Duplicate titles, within the batch or against existing tasks of the day, are detected with a
+   * single query and reported per item as CONFLICT instead of failing the batch.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "createTasks"})
+  @Transactional
+  public List<BatchItemResult> createTasks(List<CreateTaskRequest> requests) {
+    ensureBatchSize(requests);
+    Instant now = Instant.now();
+    LocalDate createdDate = LocalDate.ofInstant(now, ZoneId.systemDefault());
+    BatchItemResult[] results = new BatchItemResult[requests.size()];
+
+    Map<String, Integer> indexByTitle = new LinkedHashMap<>();
+    for (int i = 0; i < requests.size(); i++) {
+      CreateTaskRequest request = requests.get(i);
+      String title;
+      try {
+        checkItem(request);
+        title = TaskRules.normalizeTitle(request != null ? request.getTitle() : null);
+      } catch (ValidationException ex) {
+        results[i] = BatchItemResult.failed(i, null, "INVALID", ex.getMessage());
+        continue;
+      }
+      if (indexByTitle.putIfAbsent(title, i) != null) {
+        results[i] = conflict(i, null, new DuplicateTaskException(title, createdDate));
+      }
+    }
+
+    Set<String> taken =
+        indexByTitle.isEmpty()
+            ? Set.of()
+            : new HashSet<>(repository.findTakenTitles(createdDate, indexByTitle.keySet()));
+    List<TaskEntity> entities = new ArrayList<>();
+    List<Integer> positions = new ArrayList<>();
+    indexByTitle.forEach(
+        (title, i) -> {
+          if (taken.contains(title)) {
+            results[i] = conflict(i, null, new DuplicateTaskException(title, createdDate));
+          } else {
+            entities.add(TaskRules.buildNewTask(requests.get(i), title, now, createdDate));
+            positions.add(i);
+          }
+        });
+
+    insertAll(
+        entities,
+        positions,
+        results,
+        now,
+        "A task in the batch was created concurrently for date " + createdDate);
+    log.info("Batch create finished. requested={}, created={}", requests.size(), entities.size());
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Creates a batch of imported tasks in one transaction, like {@link #createTasks}, except that
+   * each task keeps the creation time, status and completion time of its source. Duplicates are
+   * checked against the day each task was created there, with one query for the batch.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "importTasks"})
+  @Transactional
+  public List<BatchItemResult> importTasks(List<ImportTaskRequest> requests) {
+    ensureBatchSize(requests);
+    Instant now = Instant.now();
+    BatchItemResult[] results = new BatchItemResult[requests.size()];
+    TaskEntity[] candidates = new TaskEntity[requests.size()];
+
+    Map<TitleKey, Integer> indexByKey = new LinkedHashMap<>();
+    for (int i = 0; i < requests.size(); i++) {
+      ImportTaskRequest request = requests.get(i);
+      if (request == null) {
+        results[i] = BatchItemResult.failed(i, null, "INVALID", "record must not be null");
+        continue;
+      }
+      TaskEntity entity;
+      try {
+        checkItem(request);
+        String title = TaskRules.normalizeTitle(request.getTitle());
+        entity = TaskRules.buildImportedTask(request, title, now, ZoneId.systemDefault());
+      } catch (ValidationException ex) {
+        results[i] = BatchItemResult.failed(i, null, "INVALID", ex.getMessage());
+        continue;
+      }
+      TitleKey key = new TitleKey(entity.getTitle(), entity.getCreatedDate());
+      if (indexByKey.putIfAbsent(key, i) != null) {
+        results[i] = conflict(i, null, new DuplicateTaskException(key.title(), key.createdDate()));
+      } else {
+        candidates[i] = entity;
+      }
+    }
+
+    Set<TitleKey> taken = new HashSet<>();
+    if (!indexByKey.isEmpty()) {
+      Set<String> titles =
+          indexByKey.keySet().stream().map(TitleKey::title).collect(Collectors.toSet());
+      for (TaskTitleView view : repository.findTitleKeys(titles)) {
+        taken.add(new TitleKey(view.getTitle(), view.getCreatedDate()));
+      }
+    }
+    List<TaskEntity> entities = new ArrayList<>();
+    List<Integer> positions = new ArrayList<>();
+    indexByKey.forEach(
+        (key, i) -> {
+          if (taken.contains(key)) {
+            results[i] =
+                conflict(i, null, new DuplicateTaskException(key.title(), key.createdDate()));
+          } else {
+            entities.add(candidates[i]);
+            positions.add(i);
+          }
+        });
+
+    insertAll(entities, positions, results, now, "A task in the batch was created concurrently");
+    log.info("Batch import finished. requested={}, created={}", requests.size(), entities.size());
+    return Arrays.asList(results);
+  }
+
+  private void insertAll(
+      List<TaskEntity> entities,
+      List<Integer> positions,
+      BatchItemResult[] results,
+      Instant now,
+      String conflictMessage) {
+    try {
+      repository.saveAll(entities);
+      repository.flush();
+    } catch (DataIntegrityViolationException ex) {
+      throw duplicateOrRethrow(ex, new DuplicateTaskException(conflictMessage));
+    }
+
+    for (int j = 0; j < entities.size(); j++) {
+      TaskEntity saved = entities.get(j);
+      int i = positions.get(j);
+      outbox.enqueue(new TaskEvent(saved.getId(), "CREATED", now));
+      TaskResponse response = mapper.toResponse(saved);
+      eventPublisher.publishEvent(new TaskChangedEvent("CREATED", null, response));
+      results[i] = BatchItemResult.succeeded(i, "CREATED", response);
+    }
+  }
+
+  /**
+   * Applies a batch of partial updates in one transaction with batched statements.
+   * Targets are loaded with one query and title clashes are checked with one more.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "updateTasks"})
+  @Transactional
+  public List<BatchItemResult> updateTasks(List<BatchUpdateTaskRequest> requests) {
+    ensureBatchSize(requests);
+    BatchItemResult[] results = new BatchItemResult[requests.size()];
+    Set<Long> ids =
+        requests.stream()
+            .filter(Objects::nonNull)
+            .map(BatchUpdateTaskRequest::getId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    Map<Long, TaskEntity> entities =
+        repository.findAllById(ids).stream()
+            .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+
+    // Resolve targets and validate titles before touching any entity.
+    Map<Integer, String> newTitles = new HashMap<>();
+    for (int i = 0; i < requests.size(); i++) {
+      BatchUpdateTaskRequest request = requests.get(i);
+      Long id = request != null ? request.getId() : null;
+      if (id == null) {
+        results[i] = BatchItemResult.failed(i, null, "INVALID", "id must not be null");
+        continue;
+      }
+      TaskEntity entity = entities.get(id);
+      if (entity == null) {
+        results[i] = notFound(i, id);
+        continue;
+      }
+      try {
+        checkItem(request);
+        String newTitle = TaskRules.changedTitle(entity, request);
+        if (newTitle != null) {
+          newTitles.put(i, newTitle);
+        }
+      } catch (ValidationException ex) {
+        results[i] = BatchItemResult.failed(i, id, "INVALID", ex.getMessage());
+      }
+    }
+
+    Map<TitleKey, Long> owners = new HashMap<>();
+    if (!newTitles.isEmpty()) {
+      for (TaskTitleView view : repository.findTitleKeys(new HashSet<>(newTitles.values()))) {
+        owners.put(new TitleKey(view.getTitle(), view.getCreatedDate()), view.getId());
+      }
+    }
+
+    Instant now = Instant.now();
+    List<TaskResponse> previousStates = new ArrayList<>();
+    List<Integer> changedPositions = new ArrayList<>();
+    List<TaskRules.UpdateResult> changes = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      if (results[i] != null) {
+        continue;
+      }
+      BatchUpdateTaskRequest request = requests.get(i);
+      TaskEntity entity = entities.get(request.getId());
+      String newTitle = newTitles.get(i);
+      if (newTitle != null) {
+        TitleKey key = new TitleKey(newTitle, entity.getCreatedDate());
+        Long owner = owners.putIfAbsent(key, entity.getId());
+        if (owner != null && !owner.equals(entity.getId())) {
+          results[i] =
+              conflict(i, entity.getId(), new DuplicateTaskException(newTitle, key.createdDate()));
+          continue;
+        }
+      }
+      TaskResponse previous = mapper.toResponse(entity);
+      TaskRules.UpdateResult result = TaskRules.applyUpdates(entity, request, now);
+      if (!result.changed()) {
+        results[i] = BatchItemResult.succeeded(i, "UNCHANGED", previous);
+        continue;
+      }
+      previousStates.add(previous);
+      changedPositions.add(i);
+      changes.add(result);
+    }
+
+    try {
+      repository.flush();
+    } catch (DataIntegrityViolationException ex) {
+      throw duplicateOrRethrow(
+          ex, new DuplicateTaskException("A title in the batch was taken concurrently"));
+    }
+
+    for (int j = 0; j < changedPositions.size(); j++) {
+      int i = changedPositions.get(j);
+      TaskEntity saved = entities.get(requests.get(i).getId());
+      String eventType = changes.get(j).completedNow() ? "COMPLETED" : "UPDATED";
+      outbox.enqueue(new TaskEvent(saved.getId(), eventType, now));
+      TaskResponse response = mapper.toResponse(saved);
+      eventPublisher.publishEvent(new TaskChangedEvent(eventType, previousStates.get(j), response));
+      results[i] = BatchItemResult.succeeded(i, "UPDATED", response);
+    }
+    log.info(
+        "Batch update finished. requested={}, updated={}",
+        requests.size(),
+        changedPositions.size());
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Deletes a batch of tasks with a single bulk delete statement.
+   * Missing ids are reported per item as NOT_FOUND.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "deleteTasks"})
+  @Transactional
+  public List<BatchItemResult> deleteTasks(List<Long> ids) {
+    ensureBatchSize(ids);
+    BatchItemResult[] results = new BatchItemResult[ids.size()];
+    Map<Long, TaskEntity> entities =
+        repository.findAllById(ids.stream().filter(Objects::nonNull).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+
+    Map<Long, TaskResponse> deleted = new LinkedHashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      Long id = ids.get(i);
+      if (id == null) {
+        results[i] = BatchItemResult.failed(i, null, "INVALID", "id must not be null");
+        continue;
+      }
+      TaskEntity entity = entities.get(id);
+      if (entity == null || deleted.containsKey(id)) {
+        results[i] = notFound(i, id);
+        continue;
+      }
+      TaskResponse previous = mapper.toResponse(entity);
+      deleted.put(id, previous);
+      results[i] = BatchItemResult.succeeded(i, "DELETED", previous);
+    }
+
+    Instant now = Instant.now();
+    if (!deleted.isEmpty()) {
+      repository.deleteAllByIdInBatch(deleted.keySet());
+      tombstones.saveAll(deleted.keySet().stream().map(id -> tombstone(id, now)).toList());
+    }
+    deleted.forEach(
+        (id, previous) -> {
+          outbox.enqueue(new TaskEvent(id, "DELETED", now));
+          eventPublisher.publishEvent(new TaskChangedEvent("DELETED", previous, null));
+        });
+    log.info("Batch delete finished. requested={}, deleted={}", ids.size(), deleted.size());
+    return Arrays.asList(results);
   }
 
-  private String normalizeTitle(String title) {
-    if (title == null) {
-      throw new ValidationException("title must not be null");
+  /**
+   * Reads the top pending tasks with one index range scan per priority, most urgent first,
+   * stopping as soon as the limit is filled.
+   */
+  private List<TaskEntity> findUrgentInDatabase(Integer limit) {
+    List<TaskEntity> result = new ArrayList<>();
+    for (Priority priority : TaskUrgencyComparator.URGENCY_ORDER) {
+      int remaining = limit != null ? limit - result.size() : Integer.MAX_VALUE;
+      if (remaining <= 0) {
+        break;
+      }
+      Pageable page = limit != null ? PageRequest.of(0, remaining) : Pageable.unpaged();
+      result.addAll(
+          repository.findByStatusAndPriorityOrderByCreatedAtAscIdAsc(
+              Status.PENDING, priority, page));
     }
-    String trimmed = title.trim();
-    if (trimmed.isEmpty()) {
-      throw new ValidationException("title must not be blank");
+    return result;
+  }
+
+  private void ensureBatchSize(List<?> items) {
+    if (items.size() > maxBatchSize) {
+      throw new ValidationException("batch must not contain more than " + maxBatchSize + " items");
     }
-    return trimmed;
   }
 
-  private TaskEntity buildNewTask(
-      CreateTaskRequest request, String title, Instant now, LocalDate createdDate) {
-    TaskEntity entity = new TaskEntity();
-    entity.setTitle(title);
-    entity.setDescription(request.getDescription());
-    entity.setPriority(request.getPriority() != null ? request.getPriority() : Priority.MEDIUM);
-    entity.setStatus(Status.PENDING);
-    entity.setCreatedAt(now);
-    entity.setCreatedDate(createdDate);
-    entity.setCompletedAt(null);
-    return entity;
+  private BatchItemResult conflict(int index, Long id, DuplicateTaskException ex) {
+    return BatchItemResult.failed(index, id, "CONFLICT", metrics.duplicate(ex).getMessage());
+  }
+
+  private BatchItemResult notFound(int index, Long id) {
+    String message = metrics.notFound(id).getMessage();
+    return BatchItemResult.failed(index, id, "NOT_FOUND", message);
   }
 
-  private UpdateResult applyUpdates(TaskEntity entity, UpdateTaskRequest request, Instant now) {
-    boolean changed = false;
-    boolean completedNow = false;
+  private <T> Function<T, TaskResponse> detaching(Function<T, TaskResponse> toResponse) {
+    return entity -> {
+      TaskResponse response = toResponse.apply(entity);
+      entityManager.detach(entity);
+      return response;
+    };
+  }
 
-    if (request.getTitle() != null) {
-      String title = normalizeTitle(request.getTitle());
-      if (!title.equals(entity.getTitle())) {
-        ensureNoDuplicateOnUpdate(title, entity.getCreatedDate(), entity.getId());
-        entity.setTitle(title);
-        changed = true;
+  private static <T> T nextOrNull(Iterator<T> iterator) {
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+
+  /**
+   * Merges two id-ordered lists of disjoint tasks into the first {@code limit} by id.
+   */
+  private static List<TaskResponse> mergeById(
+      List<TaskResponse> left, List<TaskResponse> right, int limit) {
+    List<TaskResponse> merged = new ArrayList<>(Math.min(limit, left.size() + right.size()));
+    int i = 0;
+    int j = 0;
+    while (merged.size() < limit && (i < left.size() || j < right.size())) {
+      if (j == right.size() || (i < left.size() && left.get(i).id() < right.get(j).id())) {
+        merged.add(left.get(i++));
+      } else {
+        merged.add(right.get(j++));
       }
     }
+    return merged;
+  }
 
-    if (request.getDescription() != null) {
-      entity.setDescription(request.getDescription());
-      changed = true;
+  private void ensureRange(String name, Instant from, Instant to) {
+    if (from != null && to != null && !from.isBefore(to)) {
+      throw new ValidationException(name + "From must be before " + name + "To");
     }
+  }
 
-    if (request.getPriority() != null && request.getPriority() != entity.getPriority()) {
-      entity.setPriority(request.getPriority());
-      changed = true;
+  /**
+   * Requested projection in request order without duplicates; every field when none is given.
+   */
+  private List<String> resolveFields(List<String> requested) {
+    Set<String> fields = new LinkedHashSet<>();
+    if (requested != null) {
+      for (String field : requested) {
+        String name = field.trim();
+        if (name.isEmpty()) {
+          continue;
+        }
+        if (!TaskQueryRepository.PROJECTABLE_FIELDS.contains(name)) {
+          throw new ValidationException("unknown field '" + name + "'");
+        }
+        fields.add(name);
+      }
     }
+    if (fields.isEmpty()) {
+      return PROJECTION_ORDER;
+    }
+    return List.copyOf(fields);
+  }
 
-    Status newStatus = request.getStatus();
-    if (newStatus != null && newStatus != entity.getStatus()) {
-      if (newStatus == Status.DONE) {
-        entity.setCompletedAt(now);
-        completedNow = true;
-      } else if (newStatus == Status.PENDING) {
-        entity.setCompletedAt(null);
+  /**
+   * Parses a sort spec such as {@code priority,-createdAt}; a leading '-' sorts descending.
+   */
+  private Sort resolveSort(String spec) {
+    if (spec == null) {
+      return Sort.by("id");
+    }
+    List<Sort.Order> orders = new ArrayList<>();
+    for (String part : spec.split(",")) {
+      String token = part.trim();
+      if (token.isEmpty()) {
+        continue;
+      }
+      boolean descending = token.startsWith("-");
+      String property = descending ? token.substring(1) : token;
+      if (!TaskQueryRepository.SORTABLE_FIELDS.contains(property)) {
+        throw new ValidationException("cannot sort by '" + property + "'");
       }
-      entity.setStatus(newStatus);
-      changed = true;
+      orders.add(descending ? Sort.Order.desc(property) : Sort.Order.asc(property));
     }
+    return orders.isEmpty() ? Sort.by("id") : Sort.by(orders);
+  }
 
-    return new UpdateResult(changed, completedNow);
+  /**
+   * Bean Validation for one batch item, which {@code @Valid} on the request body does not reach;
+   * failures become a per-item INVALID result.
+   */
+  private void checkItem(Object request) {
+    if (request == null) {
+      return;
+    }
+    Set<ConstraintViolation<Object>> violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      throw new ValidationException(
+          violations.stream()
+              .map(ConstraintViolation::getMessage)
+              .sorted()
+              .collect(Collectors.joining(", ")));
+    }
+  }
+
+  private static boolean precedes(TaskEntity row, TaskTombstoneEntity removal) {
+    int byTime = row.getUpdatedAt().compareTo(removal.getDeletedAt());
+    return byTime < 0 || (byTime == 0 && row.getId() < removal.getTaskId());
   }
 
-  private void ensureNoDuplicateOnCreate(String title, LocalDate createdDate) {
-    if (repository.existsByTitleAndCreatedDate(title, createdDate)) {
-      throw new DuplicateTaskException(title, createdDate);
+  private TaskTombstoneEntity tombstone(Long taskId, Instant deletedAt) {
+    TaskTombstoneEntity tombstone = new TaskTombstoneEntity();
+    tombstone.setTaskId(taskId);
+    tombstone.setDeletedAt(deletedAt);
+    return tombstone;
+  }
+
+  private int resolvePageSize(Integer limit) {
+    if (limit == null) {
+      return defaultPageSize;
+    }
+    if (limit < 1) {
+      throw new ValidationException("limit must be positive");
     }
+    return Math.min(limit, maxPageSize);
   }
 
-  private void ensureNoDuplicateOnUpdate(String title, LocalDate createdDate, Long id) {
-    if (repository.existsByTitleAndCreatedDateAndIdNot(title, createdDate, id)) {
-      throw new DuplicateTaskException(title, createdDate);
+  /**
+   * Returns {@code duplicate} when the violation comes from the title-per-day constraint,
+   * otherwise rethrows the original exception.
+   */
+  private DuplicateTaskException duplicateOrRethrow(
+      DataIntegrityViolationException ex, DuplicateTaskException duplicate) {
+    if (!TaskRules.isTitlePerDayViolation(ex)) {
+      throw ex;
     }
+    log.warn("Duplicate task rejected by unique constraint: {}", duplicate.getMessage());
+    return metrics.duplicate(duplicate);
   }
 
 }
@@ -0,0 +1,135 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.TaskStats;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.events.TaskChangedEvent;
+import com.project.taskmgmt.repository.TaskRepository;
+import com.project.taskmgmt.repository.TaskRepository.TaskAggregate;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Task statistics kept current from committed changes instead of being counted per request.
+ * Counters are seeded by one aggregate query at startup; afterwards each change removes the
+ * previous state of the task and adds the current one, so reading them never touches the
+ * database.
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskStatistics {
+  private static final Logger log = LoggerFactory.getLogger(TaskStatistics.class);
+
+  private final TaskRepository repository;
+  private final int completedDays;
+  private final long[][] counts = new long[Status.values().length][Priority.values().length];
+  private final TreeMap<LocalDate, Long> completedPerDay = new TreeMap<>();
+  private long completedTasks;
+  private long completionSeconds;
+
+  public TaskStatistics(
+      TaskRepository repository,
+      @Value("${tasks.stats.completed-days:30}") int completedDays) {
+    this.repository = repository;
+    this.completedDays = completedDays;
+  }
+
+  /**
+   * Reloads every counter from a single aggregate query over the tasks table.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void rebuild() {
+    for (long[] row : counts) {
+      Arrays.fill(row, 0);
+    }
+    completedPerDay.clear();
+    completedTasks = 0;
+    completionSeconds = 0;
+    for (TaskAggregate group : repository.aggregateAll()) {
+      counts[group.getStatus().ordinal()][group.getPriority().ordinal()] += group.getTasks();
+      if (group.getCompletedDate() != null) {
+        completedPerDay.merge(group.getCompletedDate(), group.getTasks(), Long::sum);
+        completedTasks += group.getTasks();
+        completionSeconds += group.getCompletionSeconds().longValue();
+      }
+    }
+    log.info("Task statistics rebuilt. total={}, completed={}", total(), completedTasks);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public synchronized void onTaskChanged(TaskChangedEvent event) {
+    if (event.previous() != null) {
+      apply(event.previous(), -1);
+    }
+    if (event.current() != null) {
+      apply(event.current(), 1);
+    }
+  }
+
+  public synchronized long count(Status status) {
+    long count = 0;
+    for (long tasks : counts[status.ordinal()]) {
+      count += tasks;
+    }
+    return count;
+  }
+
+  public synchronized TaskStats snapshot() {
+    Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+    for (Status status : Status.values()) {
+      byStatus.put(status, count(status));
+    }
+    Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+    for (Priority priority : Priority.values()) {
+      long count = 0;
+      for (long[] row : counts) {
+        count += row[priority.ordinal()];
+      }
+      byPriority.put(priority, count);
+    }
+    LocalDate windowStart = LocalDate.now(ZoneOffset.UTC).minusDays(completedDays - 1L);
+    Map<LocalDate, Long> recent = new TreeMap<>(completedPerDay.tailMap(windowStart, true));
+    Duration averageTimeToCompletion =
+        completedTasks > 0 ? Duration.ofSeconds(completionSeconds / completedTasks) : null;
+    return new TaskStats(total(), byStatus, byPriority, recent, averageTimeToCompletion);
+  }
+
+  private long total() {
+    long total = 0;
+    for (long[] row : counts) {
+      for (long tasks : row) {
+        total += tasks;
+      }
+    }
+    return total;
+  }
+
+  private void apply(TaskResponse task, int delta) {
+    counts[task.status().ordinal()][task.priority().ordinal()] += delta;
+    if (task.completedAt() == null) {
+      return;
+    }
+    LocalDate day = task.completedAt().atZone(ZoneOffset.UTC).toLocalDate();
+    completedPerDay.merge(day, (long) delta, (a, b) -> a + b == 0 ? null : a + b);
+    completedTasks += delta;
+    Duration completion = Duration.between(task.createdAt(), task.completedAt());
+    completionSeconds += delta * completion.getSeconds();
+  }
+}
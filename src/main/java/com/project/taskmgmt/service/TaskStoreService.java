@@ -0,0 +1,146 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskPage;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.events.TaskChangedEvent;
+import com.project.taskmgmt.exception.TaskNotFoundException;
+import com.project.taskmgmt.exception.TaskVersionMismatchException;
+import com.project.taskmgmt.mapper.TaskMapper;
+import com.project.taskmgmt.repository.TaskStore;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ValidationException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * Task operations for the edge and sharded profiles, backed by a {@link TaskStore} instead of
+ * JPA. Applies the same business rules as {@link TaskService}; there is no outbox or
+ * service-level transaction, and every write is applied to the store atomically per task.
+ */
+@Service
+@Profile({"edge", "sharded"})
+public class TaskStoreService {
+  private final TaskStore store;
+  private final TaskMapper mapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int defaultPageSize;
+  private final int maxPageSize;
+
+  public TaskStoreService(
+      TaskStore store,
+      TaskMapper mapper,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${tasks.pagination.default-size:100}") int defaultPageSize,
+      @Value("${tasks.pagination.max-size:1000}") int maxPageSize) {
+    this.store = store;
+    this.mapper = mapper;
+    this.eventPublisher = eventPublisher;
+    this.defaultPageSize = defaultPageSize;
+    this.maxPageSize = maxPageSize;
+  }
+
+  @Timed(value = "tasks.service", extraTags = {"operation", "createTask"})
+  public TaskResponse createTask(CreateTaskRequest request) {
+    String title = TaskRules.normalizeTitle(request.getTitle());
+    Instant now = Instant.now();
+    LocalDate createdDate = LocalDate.ofInstant(now, ZoneId.systemDefault());
+    TaskResponse response =
+        mapper.toResponse(store.insert(TaskRules.buildNewTask(request, title, now, createdDate)));
+    eventPublisher.publishEvent(new TaskChangedEvent("CREATED", null, response));
+    return response;
+  }
+
+  @Timed(value = "tasks.service", extraTags = {"operation", "getTask"})
+  public TaskResponse getTask(Long id) {
+    return store.findById(id).map(mapper::toResponse).orElseThrow(() -> notFound(id));
+  }
+
+  @Timed(value = "tasks.service", extraTags = {"operation", "getTasks"})
+  public TaskPage getTasks(Long afterId, Integer limit) {
+    int pageSize = resolvePageSize(limit);
+    List<TaskEntity> rows = store.findAfterId(afterId != null ? afterId : 0L, pageSize + 1);
+    boolean hasMore = rows.size() > pageSize;
+    List<TaskEntity> page = hasMore ? rows.subList(0, pageSize) : rows;
+    Long nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+    return new TaskPage(page.stream().map(mapper::toResponse).toList(), nextCursor);
+  }
+
+  /**
+   * Pending tasks by priority and oldest creation time: one creation-ordered store read per
+   * priority, most urgent first, so no result is ever re-sorted.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "getUrgentTasks"})
+  public List<TaskResponse> getUrgentTasks(Integer limit) {
+    if (limit != null && limit < 1) {
+      throw new ValidationException("limit must be positive");
+    }
+    int remaining = limit != null ? limit : Integer.MAX_VALUE;
+    List<TaskResponse> result = new ArrayList<>(Math.min(remaining, 256));
+    for (Priority priority : TaskUrgencyComparator.URGENCY_ORDER) {
+      for (TaskEntity task : store.findByStatusAndPriority(Status.PENDING, priority, remaining)) {
+        result.add(mapper.toResponse(task));
+      }
+      remaining = limit != null ? limit - result.size() : Integer.MAX_VALUE;
+      if (remaining == 0) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Updates a task only if its current version is one of {@code expectedVersions}; null accepts
+   * any version. A concurrent write between the read and the store update fails with
+   * {@link org.springframework.dao.OptimisticLockingFailureException}, as with JPA.
+   */
+  @Timed(value = "tasks.service", extraTags = {"operation", "updateTask"})
+  public TaskResponse updateTask(
+      Long id, UpdateTaskRequest request, Collection<Long> expectedVersions) {
+    TaskEntity entity = store.findById(id).orElseThrow(() -> notFound(id));
+    if (expectedVersions != null && !expectedVersions.contains(entity.getVersion())) {
+      throw new TaskVersionMismatchException(id, entity.getVersion());
+    }
+    TaskResponse previous = mapper.toResponse(entity);
+    TaskRules.UpdateResult result = TaskRules.applyUpdates(entity, request, Instant.now());
+    if (!result.changed()) {
+      return previous;
+    }
+    TaskResponse response = mapper.toResponse(store.update(entity));
+    String eventType = result.completedNow() ? "COMPLETED" : "UPDATED";
+    eventPublisher.publishEvent(new TaskChangedEvent(eventType, previous, response));
+    return response;
+  }
+
+  @Timed(value = "tasks.service", extraTags = {"operation", "deleteTask"})
+  public void deleteTask(Long id) {
+    TaskEntity removed = store.delete(id).orElseThrow(() -> notFound(id));
+    eventPublisher.publishEvent(new TaskChangedEvent("DELETED", mapper.toResponse(removed), null));
+  }
+
+  private int resolvePageSize(Integer limit) {
+    if (limit == null) {
+      return defaultPageSize;
+    }
+    if (limit < 1) {
+      throw new ValidationException("limit must be positive");
+    }
+    return Math.min(limit, maxPageSize);
+  }
+
+  private static TaskNotFoundException notFound(Long id) {
+    return new TaskNotFoundException(id);
+  }
+}
@@ -0,0 +1,40 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.repository.TaskTombstoneRepository;
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Drops deletion tombstones once they are older than the incremental sync window.
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskTombstonePurger {
+  private static final Logger log = LoggerFactory.getLogger(TaskTombstonePurger.class);
+
+  private final TaskTombstoneRepository tombstones;
+  private final Duration retention;
+
+  public TaskTombstonePurger(
+      TaskTombstoneRepository tombstones,
+      @Value("${tasks.sync.tombstone-retention:P30D}") Duration retention) {
+    this.tombstones = tombstones;
+    this.retention = retention;
+  }
+
+  @Scheduled(fixedDelayString = "${tasks.sync.purge-interval-ms:3600000}")
+  @Transactional
+  public void purgeExpired() {
+    int purged = tombstones.deleteDeletedBefore(Instant.now().minus(retention));
+    if (purged > 0) {
+      log.info("Purged task tombstones. count={}", purged);
+    }
+  }
+}
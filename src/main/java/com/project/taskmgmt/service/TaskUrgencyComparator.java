@@ -3,7 +3,9 @@ package com.project.taskmgmt.service;
 import com.project.taskmgmt.entity.Priority;
 import com.project.taskmgmt.entity.TaskEntity;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import org.springframework.stereotype.Component;
 
@@ -16,10 +18,25 @@ public class TaskUrgencyComparator implements Comparator<TaskEntity> {
                   Priority.LOW, 2
           );
 
+  /**
+   * Priorities from most to least urgent.
+   */
+  static final List<Priority> URGENCY_ORDER =
+      Arrays.stream(Priority.values())
+          .sorted(Comparator.comparingInt(TaskUrgencyComparator::rank))
+          .toList();
+
+  /**
+   * Position of the priority in urgency order; lower is more urgent.
+   */
+  static int rank(Priority priority) {
+    return PRIORITY_ORDER.getOrDefault(priority, Integer.MAX_VALUE);
+  }
+
   @Override
   public int compare(TaskEntity left, TaskEntity right) {
-    int leftRank = PRIORITY_ORDER.getOrDefault(left.getPriority(), Integer.MAX_VALUE);
-    int rightRank = PRIORITY_ORDER.getOrDefault(right.getPriority(), Integer.MAX_VALUE);
+    int leftRank = rank(left.getPriority());
+    int rightRank = rank(right.getPriority());
     int priorityComparison = Integer.compare(leftRank, rightRank);
     if (priorityComparison != 0) {
       return priorityComparison;
@@ -0,0 +1,128 @@
+package com.project.taskmgmt.service;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.events.TaskChangedEvent;
+import com.project.taskmgmt.mapper.TaskMapper;
+import com.project.taskmgmt.repository.TaskRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory index of pending tasks in urgency order.
+ * Tasks are kept in one bucket per priority, each ordered by oldest creation time, so the top K
+ * urgent tasks are read by walking the buckets in priority order without sorting.
+ * The last seen version of every task is kept so that a change delivered after a newer one is
+ * ignored instead of reinstalling an older state.
+ */
+@Component
+@Profile("!edge & !sharded")
+public class TaskUrgencyIndex {
+  private static final Logger log = LoggerFactory.getLogger(TaskUrgencyIndex.class);
+
+  private record Key(Instant createdAt, long id) {}
+
+  private static final Comparator<Key> OLDEST_FIRST =
+      Comparator.comparing(Key::createdAt, Comparator.nullsLast(Comparator.naturalOrder()))
+          .thenComparingLong(Key::id);
+
+  private final TaskRepository repository;
+  private final TaskMapper mapper;
+  private final Map<Priority, ConcurrentSkipListMap<Key, TaskResponse>> buckets =
+      new EnumMap<>(Priority.class);
+  private final Map<Long, TaskResponse> indexedById = new HashMap<>();
+  private final Map<Long, Long> versions = new HashMap<>();
+  private volatile boolean ready;
+
+  public TaskUrgencyIndex(TaskRepository repository, TaskMapper mapper) {
+    this.repository = repository;
+    this.mapper = mapper;
+    for (Priority priority : Priority.values()) {
+      buckets.put(priority, new ConcurrentSkipListMap<>(OLDEST_FIRST));
+    }
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * Reloads the index from the pending tasks in the database.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void rebuild() {
+    buckets.values().forEach(Map::clear);
+    indexedById.clear();
+    versions.clear();
+    repository.findByStatus(Status.PENDING).stream().map(mapper::toResponse).forEach(this::put);
+    ready = true;
+    log.info("Urgency index rebuilt. pending={}", indexedById.size());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public synchronized void onTaskChanged(TaskChangedEvent event) {
+    Long seen = versions.get(event.taskId());
+    if (seen != null && event.version() <= seen) {
+      log.debug("Ignoring stale task change. id={}, version={}", event.taskId(), event.version());
+      return;
+    }
+    versions.put(event.taskId(), event.version());
+    remove(event.taskId());
+    TaskResponse current = event.current();
+    if (current != null && current.status() == Status.PENDING) {
+      put(current);
+    }
+  }
+
+  /**
+   * Returns up to {@code limit} pending tasks, most urgent first.
+   * A null limit returns every pending task.
+   */
+  public List<TaskResponse> top(Integer limit) {
+    int remaining = limit != null ? limit : Integer.MAX_VALUE;
+    List<TaskResponse> result = new ArrayList<>(Math.min(remaining, 256));
+    for (Priority priority : TaskUrgencyComparator.URGENCY_ORDER) {
+      for (TaskResponse task : buckets.get(priority).values()) {
+        if (remaining-- <= 0) {
+          return result;
+        }
+        result.add(task);
+      }
+    }
+    return result;
+  }
+
+  private void put(TaskResponse task) {
+    indexedById.put(task.id(), task);
+    versions.put(task.id(), task.version() != null ? task.version() : 0);
+    buckets.get(task.priority()).put(keyOf(task), task);
+  }
+
+  private void remove(Long id) {
+    TaskResponse indexed = indexedById.remove(id);
+    if (indexed != null) {
+      buckets.get(indexed.priority()).remove(keyOf(indexed));
+    }
+  }
+
+  private static Key keyOf(TaskResponse task) {
+    return new Key(task.createdAt(), task.id());
+  }
+}
@@ -0,0 +1,52 @@
+-- Task schema as mapped by the JPA entities. Enum columns are plain varchar rather than H2's
+-- enum type so the reactive (R2DBC) driver, which binds them as strings, can write them too.
+
+create sequence tasks_seq start with 1 increment by 50;
+create sequence task_outbox_seq start with 1 increment by 50;
+create sequence task_tombstones_seq start with 1 increment by 50;
+
+create table tasks (
+    id bigint not null,
+    title varchar(255) not null,
+    description varchar(2000),
+    priority varchar(10) not null,
+    status varchar(10) not null,
+    created_at timestamp(6) with time zone not null,
+    completed_at timestamp(6) with time zone,
+    created_date date not null,
+    updated_at timestamp(6) with time zone not null,
+    version bigint not null,
+    primary key (id),
+    -- One title per calendar day; also serves the title lookups of duplicate checks.
+    constraint uk_tasks_title_created_date unique (title, created_date)
+);
+
+-- Urgent tasks and findByStatus: one ordered range scan per status and priority.
+create index idx_tasks_status_priority_created_at on tasks (status, priority, created_at);
+-- Incremental sync (findChangedAfter): ordered range scan from the (updatedAt, id) cursor.
+create index idx_tasks_updated_at_id on tasks (updated_at, id);
+-- Created and completed range filters of GET /tasks queries.
+create index idx_tasks_created_at_id on tasks (created_at, id);
+create index idx_tasks_status_completed_at on tasks (status, completed_at);
+
+create table task_outbox (
+    id bigint not null,
+    task_id bigint not null,
+    event_type varchar(20) not null,
+    occurred_at timestamp(6) with time zone not null,
+    sent_at timestamp(6) with time zone,
+    primary key (id)
+);
+
+-- Relay (unsent rows in id order) and purge of sent rows.
+create index idx_task_outbox_sent_at_id on task_outbox (sent_at, id);
+
+create table task_tombstones (
+    id bigint not null,
+    task_id bigint not null,
+    deleted_at timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+-- Deletions reported to sync cursors and purge after the retention window.
+create index idx_task_tombstones_deleted_at on task_tombstones (deleted_at);
@@ -0,0 +1,18 @@
+-- Completed tasks moved out of the hot tasks table by the archiver. Ids are kept, so an archived
+-- task is found under the same id; there is no per-day title constraint because archived tasks no
+-- longer take part in duplicate checks.
+
+create table task_archive (
+    id bigint not null,
+    title varchar(255) not null,
+    description varchar(2000),
+    priority varchar(10) not null,
+    status varchar(10) not null,
+    created_at timestamp(6) with time zone not null,
+    completed_at timestamp(6) with time zone,
+    created_date date not null,
+    updated_at timestamp(6) with time zone not null,
+    version bigint not null,
+    archived_at timestamp(6) with time zone not null,
+    primary key (id)
+);
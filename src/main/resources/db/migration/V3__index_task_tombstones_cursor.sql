@@ -0,0 +1,5 @@
+-- Sync pages deletions on the same (time, id) cursor as task rows; the wider index serves that
+-- ordered range scan and still covers the purge by deleted_at.
+
+drop index idx_task_tombstones_deleted_at;
+create index idx_task_tombstones_deleted_at_task_id on task_tombstones (deleted_at, task_id);
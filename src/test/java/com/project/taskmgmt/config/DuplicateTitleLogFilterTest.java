@@ -0,0 +1,37 @@
+package com.project.taskmgmt.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+class DuplicateTitleLogFilterTest {
+
+  private final DuplicateTitleLogFilter filter = new DuplicateTitleLogFilter();
+  private final Logger sqlLogger =
+      new LoggerContext().getLogger("org.hibernate.engine.jdbc.spi.SqlExceptionHelper");
+
+  @Test
+  void dropsOnlyLinesNamingTheTitlePerDayConstraint() {
+    assertThat(decide(sqlLogger, "Unique index violation: PUBLIC.UK_TASKS_TITLE_CREATED_DATE"))
+        .isEqualTo(FilterReply.DENY);
+    assertThat(decide(sqlLogger, "Unique index violation: PUBLIC.PK_TASK_TOMBSTONES"))
+        .isEqualTo(FilterReply.NEUTRAL);
+    assertThat(decide(sqlLogger, "SQL Error: 23505, SQLState: 23505"))
+        .isEqualTo(FilterReply.NEUTRAL);
+  }
+
+  @Test
+  void leavesOtherLoggersAlone() {
+    Logger other = new LoggerContext().getLogger("com.project.taskmgmt");
+
+    assertThat(decide(other, "uk_tasks_title_created_date")).isEqualTo(FilterReply.NEUTRAL);
+  }
+
+  private FilterReply decide(Logger logger, String message) {
+    return filter.decide(null, logger, Level.WARN, message, null, null);
+  }
+}
@@ -0,0 +1,111 @@
+package com.project.taskmgmt.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.Status;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "tasks.outbox.relay.enabled=false")
+@ActiveProfiles("reactive")
+class ReactiveTaskControllerTest {
+
+  @Autowired private WebTestClient webTestClient;
+
+  @Test
+  void appliesDuplicateAndCompletionRules() {
+    TaskResponse created =
+        webTestClient
+            .post()
+            .uri("/tasks")
+            .bodyValue(Map.of("title", "reactive-rules", "priority", "HIGH"))
+            .exchange()
+            .expectStatus()
+            .isCreated()
+            .expectBody(TaskResponse.class)
+            .returnResult()
+            .getResponseBody();
+    assertThat(created).isNotNull();
+    assertThat(created.status()).isEqualTo(Status.PENDING);
+
+    webTestClient
+        .post()
+        .uri("/tasks")
+        .bodyValue(Map.of("title", "  reactive-rules "))
+        .exchange()
+        .expectStatus()
+        .isEqualTo(409);
+
+    webTestClient
+        .put()
+        .uri("/tasks/{id}", created.id())
+        .bodyValue(Map.of("status", "DONE"))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.status")
+        .isEqualTo("DONE")
+        .jsonPath("$.completedAt")
+        .isNotEmpty();
+
+    webTestClient
+        .put()
+        .uri("/tasks/{id}", created.id())
+        .bodyValue(Map.of("status", "PENDING"))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.completedAt")
+        .isEmpty();
+  }
+
+  @Test
+  void streamsUrgentTasksAsNdjson() {
+    webTestClient
+        .post()
+        .uri("/tasks")
+        .bodyValue(Map.of("title", "reactive-urgent", "priority", "HIGH"))
+        .exchange()
+        .expectStatus()
+        .isCreated();
+
+    List<TaskResponse> urgent =
+        webTestClient
+            .get()
+            .uri("/tasks/urgent?limit=5")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(TaskResponse.class)
+            .getResponseBody()
+            .collectList()
+            .block();
+
+    assertThat(urgent).isNotEmpty().hasSizeLessThanOrEqualTo(5);
+    assertThat(urgent).allMatch(task -> task.status() == Status.PENDING);
+  }
+
+  @Test
+  void unknownTaskReturnsNotFound() {
+    webTestClient
+        .get()
+        .uri("/tasks/987654322")
+        .exchange()
+        .expectStatus()
+        .isNotFound()
+        .expectBody(String.class)
+        .isEqualTo("Task not found: 987654322");
+  }
+}
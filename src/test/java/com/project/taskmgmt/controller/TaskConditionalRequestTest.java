@@ -0,0 +1,82 @@
+package com.project.taskmgmt.controller;
+
+import static com.project.taskmgmt.support.TaskFixtures.createTask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskConditionalRequestTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private TaskService taskService;
+
+  @Test
+  void urgentListIsNotModifiedUntilATaskChanges() throws Exception {
+    createTask(taskService, "etag-before");
+    String etag =
+        mockMvc
+            .perform(get("/tasks/urgent").param("limit", "5"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    assertThat(etag).isNotNull();
+
+    mockMvc
+        .perform(get("/tasks/urgent").param("limit", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+    mockMvc
+        .perform(get("/tasks/urgent").param("limit", "6").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk());
+
+    createTask(taskService, "etag-after");
+
+    mockMvc
+        .perform(get("/tasks/urgent").param("limit", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void updateHonoursIfMatch() throws Exception {
+    TaskResponse task = createTask(taskService, "etag-if-match");
+
+    mockMvc
+        .perform(get("/tasks/" + task.id()))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+    mockMvc
+        .perform(
+            put("/tasks/" + task.id())
+                .header(HttpHeaders.IF_MATCH, "\"7\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"priority\":\"HIGH\"}"))
+        .andExpect(status().isPreconditionFailed());
+
+    mockMvc
+        .perform(
+            put("/tasks/" + task.id())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"priority\":\"HIGH\"}"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+        .andExpect(jsonPath("$.priority").value("HIGH"));
+  }
+}
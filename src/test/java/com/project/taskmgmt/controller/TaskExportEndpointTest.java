@@ -0,0 +1,157 @@
+package com.project.taskmgmt.controller;
+
+import static com.project.taskmgmt.support.TaskFixtures.createTask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.service.TaskArchiver;
+import com.project.taskmgmt.service.TaskService;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskExportEndpointTest {
+
+  @TempDir static Path exportDir;
+
+  @DynamicPropertySource
+  static void exportProperties(DynamicPropertyRegistry registry) {
+    registry.add("tasks.export.dir", exportDir::toString);
+  }
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private TaskService taskService;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private TaskArchiver archiver;
+
+  @Autowired private JdbcTemplate jdbc;
+
+  @Test
+  void exportsGzipCompressedCsvWithQuotedFields() throws Exception {
+    TaskResponse task = createTask(taskService, "export, \"quoted\"");
+
+    MvcResult result =
+        mockMvc
+            .perform(
+                get("/tasks/export")
+                    .param("format", "csv")
+                    .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1, gzip;q=0.5"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    byte[] body =
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    String csv = gunzip(body);
+    assertThat(csv.lines().findFirst())
+        .hasValue("id,title,description,priority,status,createdAt,completedAt,updatedAt,version");
+    assertThat(csv.lines())
+        .anyMatch(line -> line.startsWith(task.id() + ",\"export, \"\"quoted\"\"\",,MEDIUM,"));
+  }
+
+  @Test
+  void snapshotIsWrittenAndDownloaded() throws Exception {
+    TaskResponse task = createTask(taskService, "export-snapshot");
+
+    String created =
+        mockMvc
+            .perform(post("/tasks/export/snapshots").param("format", "ndjson"))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.name").exists())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String name = objectMapper.readTree(created).get("name").asText();
+
+    byte[] file =
+        mockMvc
+            .perform(get("/tasks/export/snapshots/" + name))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/gzip"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    assertThat(gunzip(file).lines())
+        .anyMatch(line -> line.startsWith("{\"id\":" + task.id() + ","));
+  }
+
+  @Test
+  void exportsIncludeArchivedTasksUnlessExcluded() throws Exception {
+    TaskResponse task = createTask(taskService, "export-archived");
+    UpdateTaskRequest done = new UpdateTaskRequest();
+    done.setStatus(Status.DONE);
+    taskService.updateTask(task.id(), done);
+    jdbc.update(
+        "update tasks set completed_at = ? where id = ?",
+        Timestamp.from(Instant.parse("2000-01-01T00:00:00Z")),
+        task.id());
+    archiver.archiveBatch(Instant.parse("2000-01-02T00:00:00Z"));
+    String line = "{\"id\":" + task.id() + ",";
+
+    assertThat(export(get("/tasks/export")).lines()).anyMatch(row -> row.startsWith(line));
+    assertThat(export(get("/tasks/export").param("includeArchived", "false")).lines())
+        .noneMatch(row -> row.startsWith(line));
+  }
+
+  @Test
+  void unknownSnapshotNameIsNotFound() throws Exception {
+    mockMvc.perform(get("/tasks/export/snapshots/..%2Fsecret")).andExpect(status().isNotFound());
+    mockMvc
+        .perform(get("/tasks/export/snapshots/tasks-20000101T000000Z.csv.gz"))
+        .andExpect(status().isNotFound());
+  }
+
+  private String export(MockHttpServletRequestBuilder exportRequest) throws Exception {
+    MvcResult result =
+        mockMvc.perform(exportRequest).andExpect(request().asyncStarted()).andReturn();
+    return mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString(StandardCharsets.UTF_8);
+  }
+
+  private static String gunzip(byte[] bytes) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.project.taskmgmt.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskLookupEndpointTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private TaskService taskService;
+
+  @Test
+  void returnsCachedTaskAndRefreshesAfterUpdate() throws Exception {
+    CreateTaskRequest create = new CreateTaskRequest();
+    create.setTitle("lookup-me");
+    create.setPriority(Priority.LOW);
+    TaskResponse task = taskService.createTask(create);
+
+    mockMvc
+        .perform(get("/tasks/" + task.id()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.priority").value("LOW"));
+
+    UpdateTaskRequest update = new UpdateTaskRequest();
+    update.setPriority(Priority.HIGH);
+    taskService.updateTask(task.id(), update);
+
+    mockMvc
+        .perform(get("/tasks/" + task.id()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.priority").value("HIGH"));
+  }
+
+  @Test
+  void unknownTaskReturnsNotFound() throws Exception {
+    mockMvc
+        .perform(get("/tasks/987654321"))
+        .andExpect(status().isNotFound())
+        .andExpect(content().string("Task not found: 987654321"));
+  }
+}
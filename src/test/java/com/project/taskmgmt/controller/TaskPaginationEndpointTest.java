@@ -0,0 +1,70 @@
+package com.project.taskmgmt.controller;
+
+import static com.project.taskmgmt.support.TaskFixtures.createTask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskPaginationEndpointTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private TaskService taskService;
+
+  @Test
+  void pagesThroughTasksByIdCursor() throws Exception {
+    TaskResponse first = createTask(taskService, "page-first");
+    TaskResponse second = createTask(taskService, "page-second");
+    TaskResponse third = createTask(taskService, "page-third");
+    long beforeFirst = first.id() - 1;
+
+    mockMvc
+        .perform(get("/tasks").param("afterId", String.valueOf(beforeFirst)).param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items.length()").value(2))
+        .andExpect(jsonPath("$.items[0].id").value(first.id()))
+        .andExpect(jsonPath("$.items[1].id").value(second.id()))
+        .andExpect(jsonPath("$.nextCursor").value(second.id()));
+
+    mockMvc
+        .perform(get("/tasks").param("afterId", String.valueOf(second.id())).param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].id").value(third.id()));
+  }
+
+  @Test
+  void nonPositiveLimitIsRejected() throws Exception {
+    mockMvc.perform(get("/tasks").param("limit", "0")).andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void streamsTasksAsNdjson() throws Exception {
+    TaskResponse created = createTask(taskService, "stream-me");
+
+    MvcResult result =
+        mockMvc.perform(get("/tasks/stream")).andExpect(request().asyncStarted()).andReturn();
+    String body =
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    assertThat(body.lines()).anyMatch(line -> line.contains("\"id\":" + created.id() + ","));
+  }
+}
@@ -0,0 +1,95 @@
+package com.project.taskmgmt.controller;
+
+import static com.project.taskmgmt.support.TaskFixtures.createTask;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.service.TaskService;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskQueryEndpointTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private TaskService taskService;
+
+  @Test
+  void filtersSortsAndProjectsRequestedFields() throws Exception {
+    TaskResponse low = createTask(taskService, "query-low", Priority.LOW);
+    TaskResponse high = createTask(taskService, "query-high", Priority.HIGH);
+    createTask(taskService, "query-medium", Priority.MEDIUM);
+    String afterId = String.valueOf(low.id() - 1);
+    // Other contexts share the database and draw ids from their own sequence blocks.
+    String createdFrom = low.createdAt().truncatedTo(ChronoUnit.MILLIS).toString();
+
+    mockMvc
+        .perform(
+            get("/tasks/query")
+                .param("afterId", afterId)
+                .param("createdFrom", createdFrom)
+                .param("priority", "HIGH,LOW")
+                .param("sort", "-priority")
+                .param("fields", "id,title"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items.length()").value(2))
+        .andExpect(jsonPath("$.items[0].id").value(high.id()))
+        .andExpect(jsonPath("$.items[0].title").value("query-high"))
+        .andExpect(jsonPath("$.items[0].description").doesNotExist())
+        .andExpect(jsonPath("$.items[1].id").value(low.id()))
+        .andExpect(jsonPath("$.nextOffset").isEmpty());
+  }
+
+  @Test
+  void pagesByOffset() throws Exception {
+    TaskResponse first = createTask(taskService, "query-page-1", Priority.MEDIUM);
+    TaskResponse second = createTask(taskService, "query-page-2", Priority.MEDIUM);
+    String createdFrom = first.createdAt().truncatedTo(ChronoUnit.MILLIS).toString();
+
+    mockMvc
+        .perform(
+            get("/tasks/query")
+                .param("afterId", String.valueOf(first.id() - 1))
+                .param("createdFrom", createdFrom)
+                .param("status", "PENDING")
+                .param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].id").value(first.id()))
+        .andExpect(jsonPath("$.nextOffset").value(1));
+
+    mockMvc
+        .perform(
+            get("/tasks/query")
+                .param("afterId", String.valueOf(first.id() - 1))
+                .param("createdFrom", createdFrom)
+                .param("status", "PENDING")
+                .param("limit", "1")
+                .param("offset", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].id").value(second.id()));
+  }
+
+  @Test
+  void rejectsUnknownFieldsAndSortKeys() throws Exception {
+    mockMvc
+        .perform(get("/tasks/query").param("fields", "secret"))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(get("/tasks/query").param("sort", "description"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void keysetListingRejectsQueryParameters() throws Exception {
+    mockMvc.perform(get("/tasks").param("fields", "id")).andExpect(status().isBadRequest());
+  }
+}
@@ -0,0 +1,44 @@
+package com.project.taskmgmt.controller;
+
+import static com.project.taskmgmt.support.TaskFixtures.createTask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.project.taskmgmt.dto.TaskDelta;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.service.TaskService;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "tasks.sync.commit-lag=PT1H")
+@AutoConfigureMockMvc
+class TaskSyncCommitLagTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private TaskService taskService;
+
+  @Test
+  void withholdsChangesYoungerThanTheCommitLag() throws Exception {
+    Instant before = Instant.now().minus(Duration.ofMinutes(90));
+    TaskResponse fresh = createTask(taskService, "sync-lag-fresh");
+
+    TaskDelta delta = taskService.getChangesSince(before, null, null);
+
+    assertThat(delta.changed()).extracting(TaskResponse::id).doesNotContain(fresh.id());
+    assertThat(delta.nextChangedSince()).isBefore(Instant.now().minus(Duration.ofMinutes(59)));
+    mockMvc
+        .perform(get("/tasks").param("changedSince", fresh.updatedAt().toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.changed").isEmpty())
+        .andExpect(jsonPath("$.nextChangedSince").value(fresh.updatedAt().toString()))
+        .andExpect(jsonPath("$.hasMore").value(false));
+  }
+}
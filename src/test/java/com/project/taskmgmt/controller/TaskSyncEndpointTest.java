@@ -0,0 +1,110 @@
+package com.project.taskmgmt.controller;
+
+import static com.project.taskmgmt.support.TaskFixtures.createTask;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.service.TaskService;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "tasks.sync.commit-lag=PT0S")
+@AutoConfigureMockMvc
+class TaskSyncEndpointTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private TaskService taskService;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Test
+  void returnsChangesAndDeletionsSinceCursor() throws Exception {
+    TaskResponse kept = createTask(taskService, "sync-kept");
+    TaskResponse removed = createTask(taskService, "sync-removed");
+    String cursor = kept.updatedAt().toString();
+
+    UpdateTaskRequest update = new UpdateTaskRequest();
+    update.setStatus(Status.DONE);
+    TaskResponse completed = taskService.updateTask(kept.id(), update);
+    taskService.deleteTask(removed.id());
+
+    String body =
+        mockMvc
+            .perform(get("/tasks").param("changedSince", cursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changed[?(@.id == " + kept.id() + ")].version").value(1))
+            .andExpect(jsonPath("$.changed[?(@.id == " + removed.id() + ")]").isEmpty())
+            .andExpect(jsonPath("$.deleted[?(@.id == " + removed.id() + ")]").isNotEmpty())
+            .andExpect(jsonPath("$.hasMore").value(false))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    JsonNode delta = objectMapper.readTree(body);
+
+    mockMvc
+        .perform(
+            get("/tasks")
+                .param("changedSince", delta.get("nextChangedSince").asText())
+                .param("afterId", delta.get("nextAfterId").asText()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.changed[?(@.id == " + completed.id() + ")]").isEmpty())
+        .andExpect(jsonPath("$.deleted[?(@.id == " + removed.id() + ")]").isEmpty());
+  }
+
+  @Test
+  void pagesDeletionsOnTheCursor() throws Exception {
+    TaskResponse first = createTask(taskService, "sync-page-first");
+    TaskResponse second = createTask(taskService, "sync-page-second");
+    String cursor = Instant.now().toString();
+    taskService.deleteTask(first.id());
+    taskService.deleteTask(second.id());
+
+    String body =
+        mockMvc
+            .perform(get("/tasks").param("changedSince", cursor).param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deleted.length()").value(1))
+            .andExpect(jsonPath("$.deleted[0].id").value(first.id()))
+            .andExpect(jsonPath("$.hasMore").value(true))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    JsonNode delta = objectMapper.readTree(body);
+
+    mockMvc
+        .perform(
+            get("/tasks")
+                .param("changedSince", delta.get("nextChangedSince").asText())
+                .param("afterId", delta.get("nextAfterId").asText())
+                .param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.deleted.length()").value(1))
+        .andExpect(jsonPath("$.deleted[0].id").value(second.id()))
+        .andExpect(jsonPath("$.hasMore").value(false));
+  }
+
+  @Test
+  void cursorOlderThanRetentionIsGone() throws Exception {
+    mockMvc
+        .perform(get("/tasks").param("changedSince", "2000-01-01T00:00:00Z"))
+        .andExpect(status().isGone());
+  }
+
+  @Test
+  void malformedCursorIsRejected() throws Exception {
+    mockMvc
+        .perform(get("/tasks").param("changedSince", "yesterday"))
+        .andExpect(status().isBadRequest());
+  }
+}
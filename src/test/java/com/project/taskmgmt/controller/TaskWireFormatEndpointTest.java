@@ -0,0 +1,96 @@
+package com.project.taskmgmt.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.project.taskmgmt.config.WireFormatConfiguration;
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskWireFormatEndpointTest {
+  private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private TaskService taskService;
+
+  @Autowired private Jackson2ObjectMapperBuilder builder;
+
+  @Test
+  void createsAndReturnsTaskAsCbor() throws Exception {
+    ObjectMapper cbor = WireFormatConfiguration.binaryMapper(builder, new CBORFactory());
+    CreateTaskRequest request = new CreateTaskRequest();
+    request.setTitle("cbor-create");
+    request.setPriority(Priority.HIGH);
+
+    byte[] body =
+        mockMvc
+            .perform(
+                post("/tasks")
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .accept(MediaType.APPLICATION_CBOR)
+                    .content(cbor.writeValueAsBytes(request)))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    TaskResponse created = cbor.readValue(body, TaskResponse.class);
+    assertThat(created.title()).isEqualTo("cbor-create");
+    assertThat(created.priority()).isEqualTo(Priority.HIGH);
+
+    // Compare stored reads: the create response carries the clock's full precision, while the
+    // database keeps microseconds.
+    byte[] fetched =
+        mockMvc
+            .perform(get("/tasks/" + created.id()).accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+    assertThat(cbor.readValue(fetched, TaskResponse.class))
+        .isEqualTo(taskService.getTask(created.id()));
+  }
+
+  @Test
+  void returnsTaskAsSmileWithInstantsIntact() throws Exception {
+    ObjectMapper smile = WireFormatConfiguration.binaryMapper(builder, new SmileFactory());
+    CreateTaskRequest request = new CreateTaskRequest();
+    request.setTitle("smile-get");
+    TaskResponse task = taskService.createTask(request);
+
+    byte[] body =
+        mockMvc
+            .perform(get("/tasks/" + task.id()).accept(SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(SMILE))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + task.version() + "-smile\""))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    assertThat(smile.readValue(body, TaskResponse.class))
+        .isEqualTo(taskService.getTask(task.id()));
+  }
+}
@@ -0,0 +1,102 @@
+package com.project.taskmgmt.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.taskmgmt.dto.TaskChange;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TaskChangeFeedTest {
+
+  private static class RecordingSink implements TaskChangeFeed.Sink {
+    private final List<TaskChange> received = new ArrayList<>();
+    private boolean closed;
+
+    @Override
+    public void send(TaskChange change) {
+      received.add(change);
+    }
+
+    @Override
+    public void heartbeat() {}
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+  private final TaskChangeFeed feed =
+      new TaskChangeFeed(Runnable::run, new SimpleMeterRegistry(), 5, 3);
+
+  @Test
+  void pushesChangesToSubscribers() {
+    RecordingSink sink = new RecordingSink();
+    feed.subscribe(null, sink);
+
+    feed.onTaskChanged(new TaskChangedEvent("CREATED", null, task(1L)));
+    feed.onTaskChanged(new TaskChangedEvent("DELETED", task(1L), null));
+
+    assertThat(sink.received).extracting(TaskChange::type).containsExactly("CREATED", "DELETED");
+    assertThat(sink.received.get(0).task().id()).isEqualTo(1L);
+    assertThat(sink.received.get(1).task()).isNull();
+    assertThat(sink.received.get(1).taskId()).isEqualTo(1L);
+  }
+
+  @Test
+  void resumesAfterLastEventId() {
+    RecordingSink first = new RecordingSink();
+    feed.subscribe(null, first);
+    feed.onTaskChanged(new TaskChangedEvent("CREATED", null, task(1L)));
+    feed.onTaskChanged(new TaskChangedEvent("CREATED", null, task(2L)));
+    feed.onTaskChanged(new TaskChangedEvent("CREATED", null, task(3L)));
+
+    RecordingSink resumed = new RecordingSink();
+    feed.subscribe(feed.eventId(first.received.get(0)), resumed);
+
+    assertThat(resumed.received).extracting(TaskChange::taskId).containsExactly(2L, 3L);
+  }
+
+  @Test
+  void sendsResetWhenChangesAreNoLongerAvailable() {
+    RecordingSink first = new RecordingSink();
+    feed.subscribe(null, first);
+    for (long id = 1; id <= 7; id++) {
+      feed.onTaskChanged(new TaskChangedEvent("CREATED", null, task(id)));
+    }
+
+    RecordingSink tooOld = new RecordingSink();
+    feed.subscribe(feed.eventId(first.received.get(0)), tooOld);
+    RecordingSink otherRun = new RecordingSink();
+    feed.subscribe("42-1", otherRun);
+
+    assertThat(tooOld.received).extracting(TaskChange::type).containsExactly("RESET");
+    assertThat(otherRun.received).extracting(TaskChange::type).containsExactly("RESET");
+  }
+
+  @Test
+  void closesSubscriberThatFallsBehind() {
+    List<Runnable> pending = new ArrayList<>();
+    TaskChangeFeed queued = new TaskChangeFeed(pending::add, new SimpleMeterRegistry(), 10, 2);
+    RecordingSink slow = new RecordingSink();
+    queued.subscribe(null, slow);
+
+    for (long id = 1; id <= 3; id++) {
+      queued.onTaskChanged(new TaskChangedEvent("CREATED", null, task(id)));
+    }
+    new ArrayList<>(pending).forEach(Runnable::run);
+
+    assertThat(slow.closed).isTrue();
+  }
+
+  private static TaskResponse task(Long id) {
+    return new TaskResponse(
+        id, "task-" + id, null, Priority.MEDIUM, Status.PENDING, Instant.now(), null, null, 0L);
+  }
+}
@@ -0,0 +1,82 @@
+package com.project.taskmgmt.events;
+
+import static com.project.taskmgmt.support.TaskFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskOutboxEntity;
+import com.project.taskmgmt.repository.TaskOutboxRepository;
+import com.project.taskmgmt.service.TaskService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+/**
+ * Runs the relay against an in-process stand-in for the broker: the producer is mocked, so
+ * acknowledgements and failures are controlled by the test.
+ */
+@SpringBootTest(properties = "tasks.outbox.relay.enabled=false")
+class TaskOutboxRelayTest {
+
+  @Autowired private TaskService taskService;
+
+  @Autowired private TaskOutboxRelay relay;
+
+  @Autowired private TaskOutboxRepository outboxRepository;
+
+  @MockBean private TaskKafkaProducer producer;
+
+  @Test
+  void eventIsWrittenWithTheTaskAndMarkedSentOnceAcknowledged() {
+    when(producer.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+    TaskResponse task = taskService.createTask(createRequest("outbox-acked"));
+    assertThat(outboxRepository.findByTaskIdOrderByIdAsc(task.id()))
+        .extracting(TaskOutboxEntity::getEventType, TaskOutboxEntity::getSentAt)
+        .containsExactly(tuple("CREATED", null));
+
+    relay.relayPending();
+
+    verify(producer).send(argThat(event -> task.id().equals(event.taskId())));
+    assertThat(outboxRepository.findByTaskIdOrderByIdAsc(task.id()))
+        .allSatisfy(entry -> assertThat(entry.getSentAt()).isNotNull());
+  }
+
+  @Test
+  void failedEventHoldsBackLaterEventsOfTheSameTask() {
+    when(producer.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+    TaskResponse task = taskService.createTask(createRequest("outbox-failed"));
+    UpdateTaskRequest done = new UpdateTaskRequest();
+    done.setStatus(Status.DONE);
+    taskService.updateTask(task.id(), done);
+
+    CompletableFuture<Void> failsLater =
+        CompletableFuture.runAsync(
+            () -> {
+              throw new IllegalStateException("broker unavailable");
+            },
+            CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+    when(producer.send(argThat(event -> isCreatedEventOf(event, task))))
+        .thenReturn(failsLater);
+
+    relay.relayPending();
+
+    assertThat(outboxRepository.findByTaskIdOrderByIdAsc(task.id()))
+        .extracting(TaskOutboxEntity::getEventType, TaskOutboxEntity::getSentAt)
+        .containsExactly(tuple("CREATED", null), tuple("COMPLETED", null));
+  }
+
+  private boolean isCreatedEventOf(TaskEvent event, TaskResponse task) {
+    return event != null && task.id().equals(event.taskId()) && "CREATED".equals(event.type());
+  }
+}
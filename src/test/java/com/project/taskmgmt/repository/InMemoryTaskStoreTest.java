@@ -0,0 +1,185 @@
+package com.project.taskmgmt.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.exception.DuplicateTaskException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+class InMemoryTaskStoreTest {
+
+  private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+
+  @TempDir private Path dataDir;
+
+  @Test
+  void rejectsDuplicateTitleOnTheSameDay() {
+    InMemoryTaskStore store = new InMemoryTaskStore(new TaskWriteAheadLog("", 1, false, 1024));
+    store.insert(task("Write report", Priority.LOW, NOW));
+
+    assertThatThrownBy(() -> store.insert(task("Write report", Priority.HIGH, NOW)))
+        .isInstanceOf(DuplicateTaskException.class);
+    TaskEntity other = store.insert(task("Review report", Priority.LOW, NOW));
+    other.setTitle("Write report");
+    assertThatThrownBy(() -> store.update(other)).isInstanceOf(DuplicateTaskException.class);
+    assertThat(store.findById(other.getId()).orElseThrow().getTitle()).isEqualTo("Review report");
+  }
+
+  @Test
+  void rejectsUpdateOfStaleVersion() {
+    InMemoryTaskStore store = new InMemoryTaskStore(new TaskWriteAheadLog("", 1, false, 1024));
+    TaskEntity created = store.insert(task("Plan sprint", Priority.MEDIUM, NOW));
+    TaskEntity first = store.findById(created.getId()).orElseThrow();
+    TaskEntity second = store.findById(created.getId()).orElseThrow();
+
+    first.setStatus(Status.DONE);
+    assertThat(store.update(first).getVersion()).isEqualTo(1L);
+    second.setDescription("late edit");
+    assertThatThrownBy(() -> store.update(second))
+        .isInstanceOf(OptimisticLockingFailureException.class);
+  }
+
+  @Test
+  void bucketsFollowStatusAndCreationOrder() {
+    InMemoryTaskStore store = new InMemoryTaskStore(new TaskWriteAheadLog("", 1, false, 1024));
+    TaskEntity newer = store.insert(task("newer", Priority.HIGH, NOW.plusSeconds(60)));
+    TaskEntity older = store.insert(task("older", Priority.HIGH, NOW));
+    TaskEntity done = store.insert(task("done", Priority.HIGH, NOW.minusSeconds(60)));
+    done.setStatus(Status.DONE);
+    store.update(done);
+
+    assertThat(ids(store.findByStatusAndPriority(Status.PENDING, Priority.HIGH, 10)))
+        .containsExactly(older.getId(), newer.getId());
+    assertThat(ids(store.findByStatus(Status.DONE))).containsExactly(done.getId());
+    assertThat(ids(store.findAfterId(older.getId() - 1, 2)))
+        .containsExactly(older.getId(), done.getId());
+  }
+
+  @Test
+  void restoresTasksFromWriteAheadLog() throws Exception {
+    String path = dataDir.resolve("tasks.wal").toString();
+    TaskWriteAheadLog wal = new TaskWriteAheadLog(path, 1, false, 1024);
+    InMemoryTaskStore store = new InMemoryTaskStore(wal);
+    TaskEntity kept = store.insert(task("kept", Priority.LOW, NOW));
+    TaskEntity removed = store.insert(task("removed", Priority.LOW, NOW));
+    kept.setStatus(Status.DONE);
+    kept.setCompletedAt(NOW.plusSeconds(5));
+    store.update(kept);
+    store.delete(removed.getId());
+    wal.destroy();
+
+    InMemoryTaskStore restored = new InMemoryTaskStore(new TaskWriteAheadLog(path, 1, false, 1024));
+
+    TaskEntity reloaded = restored.findById(kept.getId()).orElseThrow();
+    assertThat(reloaded.getStatus()).isEqualTo(Status.DONE);
+    assertThat(reloaded.getCompletedAt()).isEqualTo(NOW.plusSeconds(5));
+    assertThat(reloaded.getVersion()).isEqualTo(1L);
+    assertThat(restored.findById(removed.getId())).isEmpty();
+    // Ids keep increasing after a restart.
+    assertThat(restored.insert(task("next", Priority.LOW, NOW)).getId())
+        .isGreaterThan(removed.getId());
+  }
+
+  @Test
+  void failedLogAppendReleasesTheTitle() {
+    String path = dataDir.resolve("tasks.wal").toString();
+    InMemoryTaskStore store = new InMemoryTaskStore(new TaskWriteAheadLog(path, 1, false, 1024));
+    // Longer than a log record field can hold, so the append fails.
+    TaskEntity oversized = task("Ship release", Priority.LOW, NOW);
+    oversized.setDescription("x".repeat(70_000));
+
+    assertThatThrownBy(() -> store.insert(oversized)).isInstanceOf(UncheckedIOException.class);
+    TaskEntity stored = store.insert(task("Ship release", Priority.LOW, NOW));
+
+    stored.setTitle("Ship hotfix");
+    stored.setDescription("x".repeat(70_000));
+    assertThatThrownBy(() -> store.update(stored)).isInstanceOf(UncheckedIOException.class);
+    assertThat(store.insert(task("Ship hotfix", Priority.LOW, NOW)).getId()).isNotNull();
+    assertThatThrownBy(() -> store.insert(task("Ship release", Priority.LOW, NOW)))
+        .isInstanceOf(DuplicateTaskException.class);
+  }
+
+  @Test
+  void dropsATornTailOnReopen() throws Exception {
+    Path file = dataDir.resolve("tasks.wal");
+    TaskWriteAheadLog wal = new TaskWriteAheadLog(file.toString(), 1, false, 1024);
+    InMemoryTaskStore store = new InMemoryTaskStore(wal);
+    TaskEntity kept = store.insert(task("kept", Priority.LOW, NOW));
+    TaskEntity torn = store.insert(task("torn", Priority.LOW, NOW));
+    long end = wal.length();
+    wal.destroy();
+    // Flip a byte in the last record, as a write cut short by a power loss would leave it.
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), end - 3);
+    }
+
+    TaskWriteAheadLog reopened = new TaskWriteAheadLog(file.toString(), 1, false, 1024);
+    InMemoryTaskStore restored = new InMemoryTaskStore(reopened);
+    assertThat(restored.findById(kept.getId())).isPresent();
+    assertThat(restored.findById(torn.getId())).isEmpty();
+    TaskEntity next = restored.insert(task("next", Priority.LOW, NOW));
+    reopened.destroy();
+
+    InMemoryTaskStore again =
+        new InMemoryTaskStore(new TaskWriteAheadLog(file.toString(), 1, false, 1024));
+    assertThat(again.findById(next.getId()).orElseThrow().getTitle()).isEqualTo("next");
+  }
+
+  @Test
+  void compactionKeepsTheLatestStateAndShrinksTheLog() throws Exception {
+    String path = dataDir.resolve("tasks.wal").toString();
+    TaskWriteAheadLog wal = new TaskWriteAheadLog(path, 1, false, 1);
+    InMemoryTaskStore store = new InMemoryTaskStore(wal);
+    TaskEntity kept = store.insert(task("kept", Priority.LOW, NOW));
+    TaskEntity removed = store.insert(task("removed", Priority.LOW, NOW));
+    for (int i = 0; i < 5_000; i++) {
+      kept.setDescription("edit " + i);
+      kept = store.update(kept);
+    }
+    store.delete(removed.getId());
+    long before = wal.length();
+
+    store.compactLog();
+    kept.setStatus(Status.DONE);
+    store.update(kept);
+    wal.destroy();
+
+    assertThat(wal.length()).isLessThan(before / 100);
+    InMemoryTaskStore restored = new InMemoryTaskStore(new TaskWriteAheadLog(path, 1, false, 1));
+    TaskEntity reloaded = restored.findById(kept.getId()).orElseThrow();
+    assertThat(reloaded.getDescription()).isEqualTo("edit 4999");
+    assertThat(reloaded.getStatus()).isEqualTo(Status.DONE);
+    assertThat(restored.findById(removed.getId())).isEmpty();
+    // The snapshot keeps the highest id, so a deleted id is not handed out again.
+    assertThat(restored.insert(task("next", Priority.LOW, NOW)).getId())
+        .isGreaterThan(removed.getId());
+  }
+
+  private static TaskEntity task(String title, Priority priority, Instant createdAt) {
+    TaskEntity task = new TaskEntity();
+    task.setTitle(title);
+    task.setPriority(priority);
+    task.setStatus(Status.PENDING);
+    task.setCreatedAt(createdAt);
+    task.setCreatedDate(LocalDate.of(2024, 5, 1));
+    task.setUpdatedAt(createdAt);
+    return task;
+  }
+
+  private static List<Long> ids(List<TaskEntity> tasks) {
+    return tasks.stream().map(TaskEntity::getId).toList();
+  }
+}
@@ -0,0 +1,43 @@
+package com.project.taskmgmt.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.taskmgmt.TaskManagementApplication;
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.service.TaskService;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+class PersistentStorageTest {
+
+  @TempDir private Path dataDir;
+
+  @Test
+  void tasksSurviveRestart() {
+    TaskResponse created;
+    try (ConfigurableApplicationContext context = start()) {
+      CreateTaskRequest request = new CreateTaskRequest();
+      request.setTitle("persistent-restart");
+      created = context.getBean(TaskService.class).createTask(request);
+    }
+
+    try (ConfigurableApplicationContext context = start()) {
+      TaskResponse reloaded = context.getBean(TaskService.class).getTask(created.id());
+      assertThat(reloaded.title()).isEqualTo("persistent-restart");
+      assertThat(reloaded.version()).isEqualTo(created.version());
+    }
+  }
+
+  private ConfigurableApplicationContext start() {
+    return new SpringApplicationBuilder(TaskManagementApplication.class)
+        .web(WebApplicationType.NONE)
+        .profiles("persistent")
+        .properties("TASKS_DATA_DIR=" + dataDir, "tasks.outbox.relay.enabled=false")
+        .run();
+  }
+}
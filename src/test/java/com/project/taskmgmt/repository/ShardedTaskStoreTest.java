@@ -0,0 +1,123 @@
+package com.project.taskmgmt.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.exception.DuplicateTaskException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+class ShardedTaskStoreTest {
+  private static final LocalDate DAY = LocalDate.of(2024, 5, 1);
+  private static final Instant NOW = Instant.parse("2024-05-01T10:00:00.123456Z");
+
+  private ShardedTaskStore store;
+
+  @BeforeEach
+  void setUp() {
+    String run = UUID.randomUUID().toString();
+    List<String> urls =
+        IntStream.range(0, 3)
+            .mapToObj(i -> "jdbc:h2:mem:shard-" + run + "-" + i + ";DB_CLOSE_DELAY=-1")
+            .toList();
+    store = new ShardedTaskStore(urls, "sa", "", 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.destroy();
+  }
+
+  @Test
+  void routesByCreatedDateAndEncodesShardInId() {
+    List<TaskEntity> created = new ArrayList<>();
+    for (int day = 0; day < 12; day++) {
+      created.add(store.insert(task("day-" + day, Priority.LOW, DAY.plusDays(day), NOW)));
+    }
+
+    for (TaskEntity task : created) {
+      assertThat(ShardedTaskStore.shardOf(task.getId()))
+          .isEqualTo(store.shardFor(task.getCreatedDate()));
+      assertThat(store.findById(task.getId()).orElseThrow().getCreatedAt()).isEqualTo(NOW);
+    }
+    assertThat(created.stream().map(task -> ShardedTaskStore.shardOf(task.getId())).distinct())
+        .hasSizeGreaterThan(1);
+  }
+
+  @Test
+  void keepsTitlesUniquePerDayAndChecksVersions() {
+    TaskEntity first = store.insert(task("standup", Priority.HIGH, DAY, NOW));
+    assertThatThrownBy(() -> store.insert(task("standup", Priority.LOW, DAY, NOW)))
+        .isInstanceOf(DuplicateTaskException.class);
+    store.insert(task("standup", Priority.LOW, DAY.plusDays(1), NOW));
+
+    first.setStatus(Status.DONE);
+    first.setCompletedAt(NOW.plusSeconds(60));
+    assertThat(store.update(first).getVersion()).isEqualTo(1L);
+    assertThatThrownBy(() -> store.update(first))
+        .isInstanceOf(OptimisticLockingFailureException.class);
+
+    assertThat(store.delete(first.getId())).get().extracting(TaskEntity::getVersion).isEqualTo(1L);
+    assertThat(store.findById(first.getId())).isEmpty();
+  }
+
+  @Test
+  void mergesShardResultsInOrder() {
+    List<TaskEntity> created = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      // Later days get earlier creation times, so shard order and time order differ.
+      created.add(
+          store.insert(task("merge-" + i, Priority.HIGH, DAY.plusDays(i), NOW.minusSeconds(i))));
+    }
+
+    List<TaskEntity> oldest = store.findByStatusAndPriority(Status.PENDING, Priority.HIGH, 5);
+    assertThat(oldest)
+        .extracting(TaskEntity::getTitle)
+        .containsExactly("merge-19", "merge-18", "merge-17", "merge-16", "merge-15");
+
+    List<Long> ids = created.stream().map(TaskEntity::getId).sorted().toList();
+    List<Long> paged = new ArrayList<>();
+    long cursor = 0;
+    for (List<TaskEntity> page = store.findAfterId(cursor, 7);
+        !page.isEmpty();
+        page = store.findAfterId(cursor, 7)) {
+      page.forEach(task -> paged.add(task.getId()));
+      cursor = page.get(page.size() - 1).getId();
+    }
+    assertThat(paged).isEqualTo(ids);
+  }
+
+  @Test
+  void mergeTakesSmallestHeadsFirst() {
+    List<Integer> merged =
+        ShardedTaskStore.merge(
+            List.of(List.of(1, 4, 9), List.of(), List.of(2, 3, 10), List.of(5)),
+            Comparator.naturalOrder(),
+            6);
+
+    assertThat(merged).containsExactly(1, 2, 3, 4, 5, 9);
+  }
+
+  private static TaskEntity task(String title, Priority priority, LocalDate day, Instant at) {
+    TaskEntity task = new TaskEntity();
+    task.setTitle(title);
+    task.setPriority(priority);
+    task.setStatus(Status.PENDING);
+    task.setCreatedAt(at);
+    task.setCreatedDate(day);
+    task.setUpdatedAt(at);
+    return task;
+  }
+}
@@ -0,0 +1,74 @@
+package com.project.taskmgmt.service;
+
+import static com.project.taskmgmt.support.TaskFixtures.createTask;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.UpdateTaskRequest;
+import com.project.taskmgmt.entity.Status;
+import java.sql.Timestamp;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "tasks.sync.commit-lag=PT0S")
+@AutoConfigureMockMvc
+class TaskArchiverTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private TaskService taskService;
+
+  @Autowired private TaskArchiver archiver;
+
+  @Autowired private JdbcTemplate jdbc;
+
+  @Test
+  void movesOldCompletedTasksToArchive() throws Exception {
+    TaskResponse done = createTask(taskService, "archive-done");
+    TaskResponse pending = createTask(taskService, "archive-pending");
+    UpdateTaskRequest update = new UpdateTaskRequest();
+    update.setStatus(Status.DONE);
+    taskService.updateTask(done.id(), update);
+    taskService.getTask(done.id());
+    jdbc.update(
+        "update tasks set completed_at = ? where id = ?",
+        Timestamp.from(Instant.parse("2000-01-01T00:00:00Z")),
+        done.id());
+
+    Instant beforeArchive = Instant.now();
+    archiver.archiveBatch(Instant.parse("2000-01-02T00:00:00Z"));
+
+    mockMvc.perform(get("/tasks/" + done.id())).andExpect(status().isNotFound());
+    mockMvc
+        .perform(get("/tasks/" + done.id()).param("includeArchived", "true"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("DONE"));
+    mockMvc.perform(get("/tasks/" + pending.id())).andExpect(status().isOk());
+    mockMvc
+        .perform(
+            get("/tasks")
+                .param("afterId", String.valueOf(done.id() - 1))
+                .param("limit", "2")
+                .param("includeArchived", "true"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].id").value(done.id()))
+        .andExpect(jsonPath("$.items[1].id").value(pending.id()));
+    mockMvc
+        .perform(
+            get("/tasks").param("afterId", String.valueOf(done.id() - 1)).param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].id").value(pending.id()));
+    mockMvc
+        .perform(get("/tasks").param("changedSince", beforeArchive.toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.deleted[*].id", hasItem(done.id().intValue())));
+  }
+}
@@ -0,0 +1,117 @@
+package com.project.taskmgmt.service;
+
+import static com.project.taskmgmt.support.TaskFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.project.taskmgmt.dto.BatchItemResult;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.exception.DuplicateTaskException;
+import com.project.taskmgmt.exception.TaskCommitTimeoutException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+    properties = {"tasks.group-commit.enabled=true", "tasks.group-commit.max-wait-ms=50"})
+class TaskCreateWriterTest {
+
+  @Autowired private TaskCreateWriter writer;
+
+  @Autowired private MeterRegistry registry;
+
+  @Test
+  void groupsConcurrentCreatesAndReportsEachOutcome() throws Exception {
+    List<String> titles = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      titles.add("group-commit-" + i);
+    }
+    titles.add("group-commit-0");
+
+    List<Future<TaskResponse>> results = new ArrayList<>();
+    ExecutorService callers = Executors.newFixedThreadPool(titles.size());
+    try {
+      for (String title : titles) {
+        results.add(callers.submit(() -> writer.create(createRequest(title))));
+      }
+      int created = 0;
+      int duplicates = 0;
+      for (Future<TaskResponse> result : results) {
+        try {
+          assertThat(result.get().id()).isNotNull();
+          created++;
+        } catch (ExecutionException ex) {
+          assertThat(ex.getCause()).isInstanceOf(DuplicateTaskException.class);
+          duplicates++;
+        }
+      }
+      assertThat(created).isEqualTo(20);
+      assertThat(duplicates).isEqualTo(1);
+    } finally {
+      callers.shutdown();
+    }
+
+    DistributionSummary batches = registry.get("tasks.group.commit.batch").summary();
+    assertThat(batches.totalAmount()).isEqualTo(titles.size());
+    assertThat(batches.count()).isLessThan(titles.size());
+  }
+
+  @Test
+  void failsWaitingCreatesWhenTheWriterDies() throws Exception {
+    TaskService taskService = mock(TaskService.class);
+    when(taskService.createTasks(anyList())).thenThrow(new AssertionError("writer died"));
+    TaskResponse inline = task("inline");
+    when(taskService.createTask(any())).thenReturn(inline);
+    TaskCreateWriter dying =
+        new TaskCreateWriter(taskService, new SimpleMeterRegistry(), true, 10, 0, 10, 5_000);
+    dying.start();
+    try {
+      assertThatThrownBy(() -> dying.create(createRequest("writer-dies")))
+          .isInstanceOf(IllegalStateException.class);
+      assertThat(dying.isRunning()).isFalse();
+      assertThat(dying.create(createRequest("after-writer-died"))).isEqualTo(inline);
+    } finally {
+      dying.stop();
+    }
+  }
+
+  @Test
+  void boundsTheWaitForACommit() throws Exception {
+    TaskService taskService = mock(TaskService.class);
+    CountDownLatch release = new CountDownLatch(1);
+    when(taskService.createTasks(anyList()))
+        .thenAnswer(
+            invocation -> {
+              release.await();
+              return List.of(BatchItemResult.succeeded(0, "CREATED", task("slow-commit")));
+            });
+    TaskCreateWriter slow =
+        new TaskCreateWriter(taskService, new SimpleMeterRegistry(), true, 10, 0, 10, 100);
+    slow.start();
+    try {
+      assertThatThrownBy(() -> slow.create(createRequest("slow-commit")))
+          .isInstanceOf(TaskCommitTimeoutException.class);
+    } finally {
+      release.countDown();
+      slow.stop();
+    }
+  }
+
+  private static TaskResponse task(String title) {
+    return new TaskResponse(1L, title, null, null, null, null, null, null, 0L);
+  }
+}
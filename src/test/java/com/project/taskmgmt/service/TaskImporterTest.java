@@ -0,0 +1,135 @@
+package com.project.taskmgmt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.taskmgmt.dto.TaskImportResult;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.repository.TaskRepository;
+import com.project.taskmgmt.repository.TaskTitleView;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(properties = {"tasks.import.batch-size=2", "tasks.import.parallelism=2"})
+class TaskImporterTest {
+
+  @TempDir static Path importDir;
+
+  @TempDir private Path dir;
+
+  @DynamicPropertySource
+  static void importProperties(DynamicPropertyRegistry registry) {
+    registry.add("tasks.import.dir", importDir::toString);
+  }
+
+  @Autowired private TaskImporter importer;
+
+  @Autowired private TaskRepository repository;
+
+  @Test
+  void importsCsvAndRejectsInvalidAndDuplicateRecords() throws Exception {
+    Path file = dir.resolve("tasks.csv");
+    Files.writeString(
+        file,
+        String.join(
+            "\n",
+            "Priority,Title,Description",
+            "high,import-a,\"two\nlines, quoted\"",
+            "LOW,import-b,",
+            ",import-a,same title again",
+            "urgent,import-c,",
+            "LOW,   ,blank title",
+            "",
+            "MEDIUM,import-d,last"));
+
+    TaskImportResult result = importer.importFile(file, null);
+
+    assertThat(result.read()).isEqualTo(6);
+    assertThat(result.imported()).isEqualTo(3);
+    assertThat(result.rejected()).isEqualTo(3);
+    List<String> rejects = Files.readAllLines(Path.of(result.rejectsFile()));
+    assertThat(rejects).hasSize(3);
+    assertThat(rejects).anyMatch(line -> line.contains("\"record\":3,\"outcome\":\"CONFLICT\""));
+    assertThat(rejects).anyMatch(line -> line.contains("\"record\":4,\"outcome\":\"INVALID\""));
+    assertThat(rejects).anyMatch(line -> line.contains("\"record\":5,\"outcome\":\"INVALID\""));
+
+    TaskImportResult rerun = importer.importFile(file, null);
+
+    assertThat(rerun.skipped()).isEqualTo(6);
+    assertThat(rerun.imported()).isZero();
+    assertThat(Files.readAllLines(Path.of(rerun.rejectsFile()))).hasSize(3);
+  }
+
+  @Test
+  void resumesUploadFromCheckpoint() throws Exception {
+    String body =
+        """
+        {"title":"resume-1"}
+        {"title":"resume-2","priority":"HIGH"}
+        {"title":"resume-3","description":"after restart"}
+        """;
+    Files.writeString(importDir.resolve("resume-job.checkpoint"), "2");
+
+    TaskImportResult result =
+        importer.importUpload(
+            "resume-job",
+            TaskImporter.Format.NDJSON,
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(result.skipped()).isEqualTo(2);
+    assertThat(result.imported()).isEqualTo(1);
+    assertThat(Files.readString(importDir.resolve("resume-job.checkpoint"))).isEqualTo("3");
+  }
+
+  @Test
+  void importsExportedTasksWithTheirOriginalState() throws Exception {
+    Instant created = Instant.parse("2023-03-01T12:00:00Z");
+    Instant completed = Instant.parse("2023-03-02T08:30:00Z");
+    Path file = dir.resolve("export.csv");
+    Files.writeString(
+        file,
+        String.join(
+            "\n",
+            "id,title,description,priority,status,createdAt,completedAt,updatedAt,version",
+            "7,roundtrip,\"a, b\",HIGH,DONE," + created + "," + completed + "," + completed + ",3",
+            "8,roundtrip,,LOW,PENDING," + created.plusSeconds(86_400 * 5) + ",,,0",
+            "9,roundtrip,,LOW,PENDING," + created.plusSeconds(60) + ",,,0",
+            "10,roundtrip-open,,LOW,DONE," + created + ",,,0"));
+
+    TaskImportResult result = importer.importFile(file, null);
+
+    assertThat(result.imported()).isEqualTo(2);
+    List<String> rejects = Files.readAllLines(Path.of(result.rejectsFile()));
+    assertThat(rejects).anyMatch(line -> line.contains("\"record\":3,\"outcome\":\"CONFLICT\""));
+    assertThat(rejects)
+        .anyMatch(line -> line.contains("completedAt is required when status is DONE"));
+    List<TaskTitleView> keys = repository.findTitleKeys(Set.of("roundtrip"));
+    assertThat(keys)
+        .extracting(TaskTitleView::getCreatedDate)
+        .containsExactlyInAnyOrder(
+            LocalDate.ofInstant(created, ZoneId.systemDefault()),
+            LocalDate.ofInstant(created.plusSeconds(86_400 * 5), ZoneId.systemDefault()));
+    TaskEntity done =
+        keys.stream()
+            .map(key -> repository.findById(key.getId()).orElseThrow())
+            .filter(task -> task.getStatus() == Status.DONE)
+            .findFirst()
+            .orElseThrow();
+    assertThat(done.getCreatedAt()).isEqualTo(created);
+    assertThat(done.getCompletedAt()).isEqualTo(completed);
+    assertThat(done.getDescription()).isEqualTo("a, b");
+  }
+}
@@ -0,0 +1,51 @@
+package com.project.taskmgmt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.exception.DuplicateTaskException;
+import com.project.taskmgmt.exception.TaskNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class TaskMetricsTest {
+
+  @Autowired private TaskService taskService;
+
+  @Autowired private MeterRegistry registry;
+
+  @Test
+  void recordsOperationTimersAndRejectedWrites() {
+    double conflictsBefore = registry.counter("tasks.conflicts").count();
+    double notFoundBefore = registry.counter("tasks.not.found").count();
+    CreateTaskRequest request = new CreateTaskRequest();
+    request.setTitle("metrics-duplicate");
+
+    taskService.createTask(request);
+    assertThatThrownBy(() -> taskService.createTask(request))
+        .isInstanceOf(DuplicateTaskException.class);
+    assertThatThrownBy(() -> taskService.deleteTask(Long.MAX_VALUE))
+        .isInstanceOf(TaskNotFoundException.class);
+
+    assertThat(registry.counter("tasks.conflicts").count()).isEqualTo(conflictsBefore + 1);
+    assertThat(registry.counter("tasks.not.found").count()).isEqualTo(notFoundBefore + 1);
+    // @Timed keeps one timer per exception tag, so the success and the conflict land apart.
+    assertThat(timerCount("createTask", "none")).isGreaterThanOrEqualTo(1);
+    assertThat(timerCount("createTask", "DuplicateTaskException")).isGreaterThanOrEqualTo(1);
+    assertThat(registry.get("tasks.count").tag("status", "PENDING").gauge().value())
+        .isGreaterThanOrEqualTo(1);
+  }
+
+  private long timerCount(String operation, String exception) {
+    return registry
+        .get("tasks.service")
+        .tag("operation", operation)
+        .tag("exception", exception)
+        .timer()
+        .count();
+  }
+}
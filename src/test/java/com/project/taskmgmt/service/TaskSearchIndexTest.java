@@ -0,0 +1,135 @@
+package com.project.taskmgmt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.events.TaskChangedEvent;
+import com.project.taskmgmt.repository.TaskRepository;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class TaskSearchIndexTest {
+
+  private final TaskSearchIndex index =
+      new TaskSearchIndex(mock(TaskRepository.class), mock(TransactionTemplate.class));
+
+  @Test
+  void ranksTitleMatchesAboveDescriptionMatches() {
+    index.onTaskChanged(created(task(1L, "Quarterly summary", "Send the invoice to finance")));
+    index.onTaskChanged(created(task(2L, "Invoice review", "Check totals")));
+    index.onTaskChanged(created(task(3L, "Team lunch", null)));
+
+    TaskSearchIndex.Result result = index.search("INVOICE", 0, 10);
+
+    assertThat(result.total()).isEqualTo(2);
+    assertThat(result.matches()).extracting(TaskSearchIndex.Match::taskId).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void followsUpdatesAndDeletions() {
+    TaskResponse original = task(1L, "Draft report", null);
+    index.onTaskChanged(created(original));
+    TaskResponse renamed = task(1L, "Final report", null, 1L);
+    index.onTaskChanged(new TaskChangedEvent("UPDATED", original, renamed));
+
+    assertThat(index.search("draft", 0, 10).total()).isZero();
+    assertThat(index.search("final", 0, 10).matches())
+        .extracting(TaskSearchIndex.Match::taskId)
+        .containsExactly(1L);
+
+    index.onTaskChanged(new TaskChangedEvent("DELETED", renamed, null));
+    assertThat(index.search("report", 0, 10).total()).isZero();
+  }
+
+  @Test
+  void ignoresChangesDeliveredAfterNewerOnes() {
+    TaskResponse original = task(1L, "Draft report", null);
+    TaskResponse renamed = task(1L, "Final report", null, 1L);
+    index.onTaskChanged(created(original));
+    index.onTaskChanged(new TaskChangedEvent("DELETED", renamed, null));
+    index.onTaskChanged(new TaskChangedEvent("UPDATED", original, renamed));
+
+    assertThat(index.search("report", 0, 10).total()).isZero();
+  }
+
+  @Test
+  void pagesThroughMatches() {
+    for (long id = 1; id <= 5; id++) {
+      index.onTaskChanged(created(task(id, "Release " + id, null)));
+    }
+
+    TaskSearchIndex.Result page = index.search("release", 2, 2);
+
+    assertThat(page.total()).isEqualTo(5);
+    assertThat(page.matches()).extracting(TaskSearchIndex.Match::taskId).containsExactly(3L, 4L);
+    assertThat(index.search("release", 10, 2).matches()).isEmpty();
+  }
+
+  @Test
+  void earlyTerminatedPagesMatchTheFullRankingAcrossUpdates() {
+    Random random = new Random(42);
+    String[] words = {"alpha", "beta", "gamma", "delta", "epsilon", "zeta", "eta", "theta"};
+    Map<Long, TaskResponse> current = new HashMap<>();
+    Map<Long, Long> versions = new HashMap<>();
+    for (int change = 0; change < 6_000; change++) {
+      long id = 1 + random.nextInt(2_000);
+      TaskResponse previous = current.get(id);
+      long version = versions.merge(id, 1L, Long::sum);
+      if (previous != null && random.nextInt(5) == 0) {
+        index.onTaskChanged(new TaskChangedEvent("DELETED", previous, null));
+        current.remove(id);
+        continue;
+      }
+      TaskResponse next = task(id, text(random, words, 3), text(random, words, 12), version);
+      index.onTaskChanged(
+          new TaskChangedEvent(previous == null ? "CREATED" : "UPDATED", previous, next));
+      current.put(id, next);
+    }
+
+    for (String query : List.of("alpha", "beta gamma", "zeta eta theta alpha")) {
+      List<String> terms = TaskSearchIndex.tokenize(query);
+      long expectedTotal =
+          current.values().stream()
+              .filter(
+                  task ->
+                      TaskSearchIndex.tokenize(task.title() + " " + task.description()).stream()
+                          .anyMatch(terms::contains))
+              .count();
+      TaskSearchIndex.Result all = index.search(query, 0, Integer.MAX_VALUE);
+      assertThat(all.total()).isEqualTo(expectedTotal);
+      assertThat(all.matches()).hasSize(all.total());
+      assertThat(index.search(query, 0, 10).matches()).isEqualTo(all.matches().subList(0, 10));
+      assertThat(index.search(query, 25, 5).matches()).isEqualTo(all.matches().subList(25, 30));
+    }
+  }
+
+  private static String text(Random random, String[] words, int count) {
+    StringBuilder text = new StringBuilder();
+    for (int i = random.nextInt(count) + 1; i > 0; i--) {
+      text.append(words[random.nextInt(words.length)]).append(' ');
+    }
+    return text.toString();
+  }
+
+  private static TaskChangedEvent created(TaskResponse task) {
+    return new TaskChangedEvent("CREATED", null, task);
+  }
+
+  private static TaskResponse task(long id, String title, String description) {
+    return task(id, title, description, 0L);
+  }
+
+  private static TaskResponse task(long id, String title, String description, long version) {
+    Instant now = Instant.parse("2024-01-01T08:00:00Z");
+    return new TaskResponse(
+        id, title, description, Priority.MEDIUM, Status.PENDING, now, null, now, version);
+  }
+}
@@ -0,0 +1,93 @@
+package com.project.taskmgmt.service;
+
+import static com.project.taskmgmt.support.TaskFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.taskmgmt.dto.BatchItemResult;
+import com.project.taskmgmt.dto.BatchUpdateTaskRequest;
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.entity.Status;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class TaskServiceBatchTest {
+
+  @Autowired private TaskService taskService;
+
+  @Test
+  void batchCreateReportsConflictsAndInvalidItemsPerItem() {
+    taskService.createTask(createRequest("batch-existing"));
+
+    List<BatchItemResult> results =
+        taskService.createTasks(
+            List.of(
+                createRequest("batch-a"),
+                createRequest("batch-existing"),
+                createRequest("  "),
+                createRequest("batch-a"),
+                createRequest("batch-b")));
+
+    assertThat(results)
+        .extracting(BatchItemResult::outcome)
+        .containsExactly("CREATED", "CONFLICT", "INVALID", "CONFLICT", "CREATED");
+    assertThat(results.get(1).error()).contains("batch-existing");
+    assertThat(results.get(0).task().status()).isEqualTo(Status.PENDING);
+  }
+
+  @Test
+  void batchItemsFailingBeanValidationAreInvalid() {
+    CreateTaskRequest longDescription = createRequest("batch-long-description");
+    longDescription.setDescription("x".repeat(2001));
+
+    List<BatchItemResult> created =
+        taskService.createTasks(List.of(longDescription, createRequest("batch-valid")));
+
+    assertThat(created).extracting(BatchItemResult::outcome).containsExactly("INVALID", "CREATED");
+    assertThat(created.get(0).error()).contains("description");
+
+    BatchUpdateTaskRequest update = update(created.get(1).id(), null, null);
+    update.setDescription("x".repeat(2001));
+    assertThat(taskService.updateTasks(List.of(update)))
+        .extracting(BatchItemResult::outcome)
+        .containsExactly("INVALID");
+  }
+
+  @Test
+  void batchUpdateAndDeleteReportPerItem() {
+    List<BatchItemResult> created =
+        taskService.createTasks(
+            List.of(createRequest("batch-upd-1"), createRequest("batch-upd-2")));
+    Long first = created.get(0).id();
+    Long second = created.get(1).id();
+
+    List<BatchItemResult> updated =
+        taskService.updateTasks(
+            List.of(
+                update(first, null, Status.DONE),
+                update(second, "batch-upd-1", null),
+                update(Long.MAX_VALUE, null, Status.DONE)));
+
+    assertThat(updated)
+        .extracting(BatchItemResult::outcome)
+        .containsExactly("UPDATED", "CONFLICT", "NOT_FOUND");
+    assertThat(updated.get(0).task().completedAt()).isNotNull();
+
+    List<BatchItemResult> deleted = taskService.deleteTasks(Arrays.asList(first, first, null));
+
+    assertThat(deleted)
+        .extracting(BatchItemResult::outcome)
+        .containsExactly("DELETED", "NOT_FOUND", "INVALID");
+  }
+
+  private BatchUpdateTaskRequest update(Long id, String title, Status status) {
+    BatchUpdateTaskRequest request = new BatchUpdateTaskRequest();
+    request.setId(id);
+    request.setTitle(title);
+    request.setStatus(status);
+    return request;
+  }
+}
@@ -0,0 +1,105 @@
+package com.project.taskmgmt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.dto.TaskStats;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.events.TaskChangedEvent;
+import com.project.taskmgmt.repository.TaskRepository;
+import com.project.taskmgmt.repository.TaskRepository.TaskAggregate;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TaskStatisticsTest {
+
+  private record Aggregate(
+      Status status,
+      Priority priority,
+      LocalDate completedDate,
+      long tasks,
+      Number completionSeconds)
+      implements TaskAggregate {
+
+    public Status getStatus() {
+      return status;
+    }
+
+    public Priority getPriority() {
+      return priority;
+    }
+
+    public LocalDate getCompletedDate() {
+      return completedDate;
+    }
+
+    public long getTasks() {
+      return tasks;
+    }
+
+    public Number getCompletionSeconds() {
+      return completionSeconds;
+    }
+  }
+
+  private final TaskRepository repository = mock(TaskRepository.class);
+  private final TaskStatistics statistics = new TaskStatistics(repository, 30);
+  private final Instant now = Instant.now();
+  private final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+  @Test
+  void seedsFromAggregateQuery() {
+    when(repository.aggregateAll())
+        .thenReturn(
+            List.of(
+                new Aggregate(Status.PENDING, Priority.HIGH, null, 3, null),
+                new Aggregate(Status.DONE, Priority.LOW, today, 2, 7200L),
+                new Aggregate(Status.DONE, Priority.LOW, today.minusDays(90), 1, 600L)));
+
+    statistics.rebuild();
+    TaskStats stats = statistics.snapshot();
+
+    assertThat(stats.total()).isEqualTo(6);
+    assertThat(stats.byStatus()).containsEntry(Status.PENDING, 3L).containsEntry(Status.DONE, 3L);
+    assertThat(stats.byPriority()).containsEntry(Priority.HIGH, 3L).containsEntry(Priority.LOW, 3L);
+    assertThat(stats.completedPerDay()).containsOnlyKeys(today).containsEntry(today, 2L);
+    assertThat(stats.averageTimeToCompletion()).isEqualTo(Duration.ofSeconds(2600));
+  }
+
+  @Test
+  void followsCompletionReopeningAndDeletion() {
+    when(repository.aggregateAll()).thenReturn(List.of());
+    statistics.rebuild();
+    TaskResponse pending = task(Status.PENDING, null);
+    TaskResponse done = task(Status.DONE, now);
+
+    statistics.onTaskChanged(new TaskChangedEvent("CREATED", null, pending));
+    statistics.onTaskChanged(new TaskChangedEvent("COMPLETED", pending, done));
+    TaskStats completed = statistics.snapshot();
+    assertThat(completed.byStatus())
+        .containsEntry(Status.DONE, 1L)
+        .containsEntry(Status.PENDING, 0L);
+    assertThat(completed.completedPerDay()).containsEntry(today, 1L);
+    assertThat(completed.averageTimeToCompletion()).isEqualTo(Duration.ofHours(1));
+
+    statistics.onTaskChanged(new TaskChangedEvent("UPDATED", done, pending));
+    assertThat(statistics.snapshot().completedPerDay()).isEmpty();
+    assertThat(statistics.snapshot().averageTimeToCompletion()).isNull();
+
+    statistics.onTaskChanged(new TaskChangedEvent("DELETED", pending, null));
+    assertThat(statistics.snapshot().total()).isZero();
+  }
+
+  private TaskResponse task(Status status, Instant completedAt) {
+    Instant createdAt = now.minus(Duration.ofHours(1));
+    return new TaskResponse(
+        1L, "stats", null, Priority.MEDIUM, status, createdAt, completedAt, now, 0L);
+  }
+}
@@ -0,0 +1,103 @@
+package com.project.taskmgmt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.entity.Status;
+import com.project.taskmgmt.entity.TaskEntity;
+import com.project.taskmgmt.events.TaskChangedEvent;
+import com.project.taskmgmt.mapper.TaskMapper;
+import com.project.taskmgmt.repository.TaskRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TaskUrgencyIndexTest {
+
+  private final TaskRepository repository = mock(TaskRepository.class);
+  private final TaskMapper mapper = new TaskMapper();
+  private final TaskUrgencyIndex index = new TaskUrgencyIndex(repository, mapper);
+
+  @Test
+  void rebuildsFromPendingTasksInUrgencyOrder() {
+    TaskEntity low = task(1L, "low", Priority.LOW, "2024-01-01T08:00:00Z");
+    TaskEntity highNew = task(2L, "high-new", Priority.HIGH, "2024-01-02T10:00:00Z");
+    TaskEntity highOld = task(3L, "high-old", Priority.HIGH, "2024-01-01T10:00:00Z");
+    TaskEntity medium = task(4L, "medium", Priority.MEDIUM, "2024-01-01T09:00:00Z");
+    when(repository.findByStatus(Status.PENDING))
+        .thenReturn(new ArrayList<>(List.of(low, highNew, highOld, medium)));
+
+    index.rebuild();
+
+    assertThat(index.top(null))
+        .extracting(TaskResponse::title)
+        .containsExactly("high-old", "high-new", "medium", "low");
+    assertThat(index.top(2))
+        .extracting(TaskResponse::title)
+        .containsExactly("high-old", "high-new");
+  }
+
+  @Test
+  void followsPriorityChangesCompletionAndDeletion() {
+    when(repository.findByStatus(Status.PENDING)).thenReturn(new ArrayList<>());
+    index.rebuild();
+    TaskResponse first = mapper.toResponse(task(1L, "first", Priority.LOW, "2024-01-01T08:00:00Z"));
+    TaskResponse second =
+        mapper.toResponse(task(2L, "second", Priority.MEDIUM, "2024-01-01T09:00:00Z"));
+    index.onTaskChanged(new TaskChangedEvent("CREATED", null, first));
+    index.onTaskChanged(new TaskChangedEvent("CREATED", null, second));
+
+    TaskEntity escalated = task(1L, "first", Priority.HIGH, "2024-01-01T08:00:00Z");
+    escalated.setVersion(1L);
+    index.onTaskChanged(new TaskChangedEvent("UPDATED", first, mapper.toResponse(escalated)));
+    assertThat(index.top(null)).extracting(TaskResponse::title).containsExactly("first", "second");
+
+    TaskEntity done = task(2L, "second", Priority.MEDIUM, "2024-01-01T09:00:00Z");
+    done.setStatus(Status.DONE);
+    done.setVersion(1L);
+    index.onTaskChanged(new TaskChangedEvent("COMPLETED", second, mapper.toResponse(done)));
+    index.onTaskChanged(new TaskChangedEvent("DELETED", mapper.toResponse(escalated), null));
+
+    assertThat(index.top(null)).isEmpty();
+  }
+
+  @Test
+  void ignoresChangesDeliveredAfterNewerOnes() {
+    when(repository.findByStatus(Status.PENDING)).thenReturn(new ArrayList<>());
+    index.rebuild();
+    TaskResponse created =
+        mapper.toResponse(task(1L, "task", Priority.LOW, "2024-01-01T08:00:00Z"));
+    TaskEntity escalated = task(1L, "task", Priority.HIGH, "2024-01-01T08:00:00Z");
+    escalated.setVersion(1L);
+    TaskEntity done = task(1L, "task", Priority.HIGH, "2024-01-01T08:00:00Z");
+    done.setStatus(Status.DONE);
+    done.setVersion(2L);
+    TaskResponse escalatedResponse = mapper.toResponse(escalated);
+
+    index.onTaskChanged(new TaskChangedEvent("CREATED", null, created));
+    index.onTaskChanged(
+        new TaskChangedEvent("COMPLETED", escalatedResponse, mapper.toResponse(done)));
+    index.onTaskChanged(new TaskChangedEvent("UPDATED", created, escalatedResponse));
+    assertThat(index.top(null)).isEmpty();
+
+    TaskResponse other =
+        mapper.toResponse(task(2L, "other", Priority.LOW, "2024-01-01T09:00:00Z"));
+    index.onTaskChanged(new TaskChangedEvent("DELETED", other, null));
+    index.onTaskChanged(new TaskChangedEvent("CREATED", null, other));
+    assertThat(index.top(null)).isEmpty();
+  }
+
+  private TaskEntity task(Long id, String title, Priority priority, String createdAt) {
+    TaskEntity entity = new TaskEntity();
+    entity.setId(id);
+    entity.setTitle(title);
+    entity.setPriority(priority);
+    entity.setStatus(Status.PENDING);
+    entity.setCreatedAt(Instant.parse(createdAt));
+    return entity;
+  }
+}
@@ -0,0 +1,39 @@
+package com.project.taskmgmt.support;
+
+import com.project.taskmgmt.dto.CreateTaskRequest;
+import com.project.taskmgmt.dto.TaskResponse;
+import com.project.taskmgmt.entity.Priority;
+import com.project.taskmgmt.service.TaskService;
+
+/**
+ * Test data shared by the service and endpoint tests.
+ */
+public final class TaskFixtures {
+
+  private TaskFixtures() {}
+
+  /**
+   * Builds a create request with only a title, leaving the priority to the service default.
+   */
+  public static CreateTaskRequest createRequest(String title) {
+    CreateTaskRequest request = new CreateTaskRequest();
+    request.setTitle(title);
+    return request;
+  }
+
+  /**
+   * Creates a task with only a title through the service.
+   */
+  public static TaskResponse createTask(TaskService taskService, String title) {
+    return taskService.createTask(createRequest(title));
+  }
+
+  /**
+   * Creates a task with a title and priority through the service.
+   */
+  public static TaskResponse createTask(TaskService taskService, String title, Priority priority) {
+    CreateTaskRequest request = createRequest(title);
+    request.setPriority(priority);
+    return taskService.createTask(request);
+  }
+}